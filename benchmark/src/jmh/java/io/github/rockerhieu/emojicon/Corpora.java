@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import java.util.Random;
+
+/**
+ * Chat-like texts of {@link #LENGTH} chars, built from the same seed on every run.
+ */
+final class Corpora {
+    static final int LENGTH = 16384;
+
+    private static final String[] WORDS = {
+            "hey", "are", "we", "still", "on", "for", "tonight", "?", "yes", "see", "you", "at", "8", "lol",
+            "ok", "sounds", "good", "thanks", "so", "much", "haha", "the", "train", "is", "late", "again", "!",
+    };
+
+    private static final String[] EMOJIS = {
+            "😀", "😂", "😍", "❤️", "👍", "🎉",
+            "☀", "🙏", "🔥", "🍕",
+    };
+
+    private static final String[] SKIN_TONES = {
+            "👍🏻", "👍🏽", "👋🏼",
+            "👋🏿", "👍🏾",
+    };
+
+    private static final String[] KEYCAPS = {
+            "1⃣", "2️⃣", "#⃣", "0⃣", "9️⃣",
+    };
+
+    private static final String[] ZWJ_SEQUENCES = {
+            "👨‍👩‍👧",
+            "👨‍👩‍👧‍👦",
+            "👨‍👨‍👦",
+            "👨‍👨‍👧‍👧",
+    };
+
+    private static final String[] SOFTBANK = {
+            "\ue415", "\ue022", "\ue00e", "\ue056", "\ue057", "\ue312", "\ue001", "\ue418",
+    };
+
+    private Corpora() {
+    }
+
+    /**
+     * @param name one of ascii, emoji, skinTone, keycap, zwj and softBank
+     */
+    static String get(String name) {
+        switch (name) {
+            case "ascii":
+                return build(null, 0);
+            case "emoji":
+                return build(EMOJIS, 2);
+            case "skinTone":
+                return build(SKIN_TONES, 4);
+            case "keycap":
+                return build(KEYCAPS, 4);
+            case "zwj":
+                return build(ZWJ_SEQUENCES, 4);
+            case "softBank":
+                return build(SOFTBANK, 4);
+            default:
+                throw new IllegalArgumentException("Unknown corpus " + name);
+        }
+    }
+
+    /**
+     * Words separated by spaces, with one of {@code emojis} instead of a word once every
+     * {@code frequency} words.
+     */
+    private static String build(String[] emojis, int frequency) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(LENGTH);
+        while (true) {
+            String token = emojis != null && random.nextInt(frequency) == 0
+                    ? emojis[random.nextInt(emojis.length)]
+                    : WORDS[random.nextInt(WORDS.length)];
+            if (text.length() + token.length() + 1 > LENGTH) {
+                break;
+            }
+            text.append(token).append(' ');
+        }
+        while (text.length() < LENGTH) {
+            text.append(' ');
+        }
+        return text.toString();
+    }
+}
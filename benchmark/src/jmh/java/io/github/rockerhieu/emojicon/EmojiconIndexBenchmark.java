@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.rockerhieu.emojicon.core.EmojiconIndex;
+
+/**
+ * Searches every named emoji for the top 16 matches of a query, from a one letter prefix matching
+ * hundreds of emojis to several words. The score is in nanoseconds per query; gc.alloc.rate.norm
+ * should be about 0.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmojiconIndexBenchmark {
+    @Param({"s", "heart", "cat f", "smiling face with", "zzz"})
+    public String query;
+
+    private EmojiconIndex mIndex;
+
+    private final EmojiconIndex.Query mQuery = new EmojiconIndex.Query(16);
+
+    @Setup
+    public void setUp() {
+        mIndex = EmojiconIndex.getDefault();
+    }
+
+    @Benchmark
+    public int search() {
+        return mIndex.search(query, mQuery);
+    }
+}
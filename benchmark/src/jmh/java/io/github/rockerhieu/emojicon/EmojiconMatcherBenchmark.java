@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.rockerhieu.emojicon.core.EmojiconMatcher;
+
+/**
+ * Scans a corpus the way EmojiconHandler.addEmojis does, without the spans, with and without the
+ * {@link EmojiconMatcher#mayContainEmoji(CharSequence, int, int)} prefilter, and through
+ * {@link EmojiconMatcher#findAll(CharSequence, int, int, int[])}. {@link #legacyMatch()} runs the
+ * per-codepoint lookup the trie replaced, as the baseline. The score is in chars per second;
+ * run with the gc profiler (the default of the jmh task) to get gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmojiconMatcherBenchmark {
+    @Param({"ascii", "emoji", "skinTone", "keycap", "zwj", "softBank"})
+    public String corpus;
+
+    private EmojiconMatcher mMatcher;
+
+    private LegacyEmojiconMatcher mLegacyMatcher;
+
+    private String mText;
+
+    private final int[] mMatches = new int[3 * 256];
+
+    @Setup
+    public void setUp() {
+        mMatcher = EmojiconMatcher.getDefault();
+        mLegacyMatcher = new LegacyEmojiconMatcher();
+        mText = Corpora.get(corpus);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpora.LENGTH)
+    public int match() {
+        EmojiconMatcher matcher = mMatcher;
+        String text = mText;
+        int length = text.length();
+        int count = 0;
+        int i = 0;
+        while (i < length) {
+            long match = matcher.match(text, i, length);
+            if (match == EmojiconMatcher.NO_MATCH) {
+                i++;
+            } else {
+                count++;
+                i = EmojiconMatcher.getEnd(match);
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpora.LENGTH)
+    public int legacyMatch() {
+        return mLegacyMatcher.countEmojis(mText, 0, mText.length());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpora.LENGTH)
+    public int prefilteredMatch() {
+        if (!mMatcher.mayContainEmoji(mText, 0, mText.length())) {
+            return 0;
+        }
+        return match();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpora.LENGTH)
+    public int findAll() {
+        EmojiconMatcher matcher = mMatcher;
+        String text = mText;
+        int[] matches = mMatches;
+        int capacity = matches.length / 3;
+        int length = text.length();
+        int total = 0;
+        int start = 0;
+        int count;
+        do {
+            count = matcher.findAll(text, start, length, matches);
+            if (count > 0) {
+                start = matches[count * 3 - 2];
+            }
+            total += count;
+        } while (count == capacity);
+        return total;
+    }
+}
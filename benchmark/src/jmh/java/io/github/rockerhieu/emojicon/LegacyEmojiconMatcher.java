@@ -0,0 +1,205 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.github.rockerhieu.emojicon.core.EmojiconMatcher;
+
+/**
+ * The per-codepoint lookup of EmojiconHandler.addEmojis before the trie, kept as the baseline of
+ * {@link EmojiconMatcherBenchmark}: a sorted-array map (as android.util.SparseIntArray) per codepoint,
+ * SoftBank char and keycap, and a skin tone map keyed by drawable name, which was built on the fly with
+ * Integer.toHexString. The maps are filled from the generated table instead of the 1,500 puts of the
+ * original static initializer, so both matchers know the same emojis. A found emoji is reported by its
+ * drawable index + 1.
+ */
+final class LegacyEmojiconMatcher {
+    private static final int VARIATION_SELECTOR_16 = 0xfe0f;
+    private static final int COMBINING_ENCLOSING_KEYCAP = 0x20e3;
+
+    private final SparseIntArray mEmojis = new SparseIntArray();
+    private final SparseIntArray mSoftbanks = new SparseIntArray();
+    private final SparseIntArray mKeyCaps = new SparseIntArray();
+    private final SparseIntArray mModifiers = new SparseIntArray();
+    private final Map<String, Integer> mModified = new HashMap<>();
+
+    LegacyEmojiconMatcher() {
+        byte[] table = readDefaultTable();
+        int count = readInt(table, 0, 4);
+        int position = 4;
+        for (int record = 0; record < count; record++) {
+            int value = readInt(table, position, 2) + 1;
+            int length = table[position + 2] & 0xff;
+            position += 3;
+            int[] codePoints = new int[length];
+            for (int i = 0; i < length; i++) {
+                codePoints[i] = readInt(table, position, 3);
+                position += 3;
+            }
+            int first = codePoints[0];
+            int last = codePoints[length - 1];
+            if (length == 1 && (first >> 12) == 0xe) {
+                mSoftbanks.put(first, value);
+            } else if (length == 1) {
+                mEmojis.put(first, value);
+            } else if (last == COMBINING_ENCLOSING_KEYCAP) {
+                mKeyCaps.put(first, value);
+            } else if (length == 2 && last >= 0x1f3fb && last <= 0x1f3ff) {
+                mModifiers.put(last, 1);
+                mModified.put("emoji_" + Integer.toHexString(first) + "_" + Integer.toHexString(last), value);
+            }
+        }
+    }
+
+    private static byte[] readDefaultTable() {
+        InputStream in = EmojiconMatcher.class.getResourceAsStream("emojicon_table");
+        if (in == null) {
+            throw new IllegalStateException("Missing emojicon table");
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            in.close();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the emojicon table", e);
+        }
+    }
+
+    private static int readInt(byte[] table, int position, int bytes) {
+        int value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << 8) | (table[position + i] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * The loop of the old addEmojis, without the spans.
+     *
+     * @return the number of emojis found in [start, end)
+     */
+    int countEmojis(CharSequence text, int start, int end) {
+        int count = 0;
+        int skip;
+        for (int i = start; i < end; i += skip) {
+            skip = 0;
+            int icon = 0;
+            char c = text.charAt(i);
+            if ((c >> 12) == 0xe) {
+                icon = mSoftbanks.get(c);
+                skip = icon == 0 ? 0 : 1;
+            }
+
+            if (icon == 0) {
+                int unicode = Character.codePointAt(text, i);
+                skip = Character.charCount(unicode);
+
+                if (unicode > 0xff) {
+                    icon = mEmojis.get(unicode);
+                }
+
+                if (i + skip < end) {
+                    int followUnicode = Character.codePointAt(text, i + skip);
+                    if (followUnicode == VARIATION_SELECTOR_16) {
+                        int followSkip = Character.charCount(followUnicode);
+                        if (i + skip + followSkip < end) {
+                            int nextFollowUnicode = Character.codePointAt(text, i + skip + followSkip);
+                            if (nextFollowUnicode == COMBINING_ENCLOSING_KEYCAP) {
+                                int nextFollowSkip = Character.charCount(nextFollowUnicode);
+                                int tempIcon = mKeyCaps.get(unicode);
+                                if (tempIcon == 0) {
+                                    followSkip = 0;
+                                    nextFollowSkip = 0;
+                                } else {
+                                    icon = tempIcon;
+                                }
+                                skip += (followSkip + nextFollowSkip);
+                            }
+                        }
+                    } else if (followUnicode == COMBINING_ENCLOSING_KEYCAP) {
+                        int followSkip = Character.charCount(followUnicode);
+                        int tempIcon = mKeyCaps.get(unicode);
+                        if (tempIcon == 0) {
+                            followSkip = 0;
+                        } else {
+                            icon = tempIcon;
+                        }
+                        skip += followSkip;
+                    } else if (mModifiers.get(followUnicode) > 0) {
+                        int followSkip = Character.charCount(followUnicode);
+                        String resourceName = "emoji_" + Integer.toHexString(unicode) + "_"
+                                + Integer.toHexString(followUnicode);
+                        Integer resourceId = mModified.get(resourceName);
+                        if (resourceId == null) {
+                            followSkip = 0;
+                        } else {
+                            icon = resourceId;
+                        }
+                        skip += followSkip;
+                    }
+                }
+            }
+
+            if (icon > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The binary search of android.util.SparseIntArray, with 0 for a missing key.
+     */
+    private static final class SparseIntArray {
+        private int[] mKeys = new int[16];
+        private int[] mValues = new int[16];
+        private int mSize;
+
+        int get(int key) {
+            int index = Arrays.binarySearch(mKeys, 0, mSize, key);
+            return index < 0 ? 0 : mValues[index];
+        }
+
+        void put(int key, int value) {
+            int index = Arrays.binarySearch(mKeys, 0, mSize, key);
+            if (index >= 0) {
+                mValues[index] = value;
+                return;
+            }
+            index = ~index;
+            if (mSize == mKeys.length) {
+                mKeys = Arrays.copyOf(mKeys, mSize * 2);
+                mValues = Arrays.copyOf(mValues, mSize * 2);
+            }
+            System.arraycopy(mKeys, index, mKeys, index + 1, mSize - index);
+            System.arraycopy(mValues, index, mValues, index + 1, mSize - index);
+            mKeys[index] = key;
+            mValues[index] = value;
+            mSize++;
+        }
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Finds emojis by name, without any Android dependency. Every emoji is named after the Unicode names of
+ * its codepoints, e.g. "smiling face with open mouth", as listed by emojicon-core/emojicon-names.txt and
+ * compiled by the generateEmojiconTable task. A query matches the emojis which have a keyword starting with each of its words, e.g. "smi op".
+ * <p>
+ * The keywords of all the emojis are kept in a single sorted array, so that the keywords starting with a
+ * word are a slice found with two binary searches. A search only walks the smallest slice of the words of
+ * the query and keeps the best results in the arrays of a reusable {@link Query}, so it never allocates.
+ * Matches rank by how many words are whole keywords, then by boost (see {@link #setBoost(int, int)}),
+ * then by the number of keywords, shorter names first, then by order of addition.
+ */
+public final class EmojiconIndex {
+    /**
+     * The highest boost, see {@link #setBoost(int, int)}.
+     */
+    public static final int MAX_BOOST = 63;
+
+    /**
+     * Words of a query after the first ones are ignored.
+     */
+    private static final int MAX_WORDS = 8;
+
+    private static final int MAX_KEYWORDS = 15;
+
+    private static final int VARIATION_SELECTOR_16 = 0xfe0f;
+
+    private static final String DEFAULT_TABLE = "emojicon_names";
+
+    private static final Object LOCK = new Object();
+    private static volatile EmojiconIndex sDefault;
+
+    /**
+     * The reusable state of a search, and its results: the indexes of the best matches, best first.
+     * A query can only be used by one thread at a time.
+     */
+    public static final class Query {
+        private final int[] mResults;
+        private final int[] mScores;
+        private int mCount;
+        private final int[] mWordStarts = new int[MAX_WORDS];
+        private final int[] mWordEnds = new int[MAX_WORDS];
+        /**
+         * Emojis already scored by the current search, marked with its stamp.
+         */
+        private int[] mSeen = new int[0];
+        private int mStamp;
+
+        /**
+         * @param maxCount the number of results to keep
+         */
+        public Query(int maxCount) {
+            mResults = new int[maxCount];
+            mScores = new int[maxCount];
+        }
+
+        public int getMaxCount() {
+            return mResults.length;
+        }
+
+        /**
+         * @return the number of results of the last search
+         */
+        public int getCount() {
+            return mCount;
+        }
+
+        /**
+         * @return the index of the emoji of the given result
+         */
+        public int get(int index) {
+            if (index >= mCount) {
+                throw new IndexOutOfBoundsException("Invalid index " + index + ", count is " + mCount);
+            }
+            return mResults[index];
+        }
+
+        private void start(int size) {
+            mCount = 0;
+            if (mSeen.length != size) {
+                mSeen = new int[size];
+                mStamp = 0;
+            }
+            if (++mStamp == 0) {
+                Arrays.fill(mSeen, 0);
+                mStamp = 1;
+            }
+        }
+
+        /**
+         * @return whether the given emoji wasn't seen yet by the current search, marking it as seen
+         */
+        private boolean see(int entry) {
+            if (mSeen[entry] == mStamp) {
+                return false;
+            }
+            mSeen[entry] = mStamp;
+            return true;
+        }
+
+        /**
+         * @return whether a match with the given score would make it to the results
+         */
+        private boolean canRank(int entry, int score) {
+            return mCount < mResults.length || isBetter(entry, score, mResults[mCount - 1], mScores[mCount - 1]);
+        }
+
+        /**
+         * Insert a match at its rank, unless it is below the worst of a full list.
+         */
+        private void offer(int entry, int score) {
+            if (!canRank(entry, score)) {
+                return;
+            }
+            int i = mCount;
+            if (i == mResults.length) {
+                i--;
+            } else {
+                mCount++;
+            }
+            while (i > 0 && isBetter(entry, score, mResults[i - 1], mScores[i - 1])) {
+                mResults[i] = mResults[i - 1];
+                mScores[i] = mScores[i - 1];
+                i--;
+            }
+            mResults[i] = entry;
+            mScores[i] = score;
+        }
+
+        private static boolean isBetter(int entry, int score, int otherEntry, int otherScore) {
+            return score > otherScore || (score == otherScore && entry < otherEntry);
+        }
+    }
+
+    /**
+     * Collects the emojis to index, among the ones named by a table generated by the
+     * generateEmojiconTable task.
+     */
+    public static final class Builder {
+        private final Map<String, String> mNames;
+        private final Map<String, Integer> mEntries = new HashMap<>();
+        private final List<String> mEmojis = new ArrayList<>();
+        private final List<String> mEntryNames = new ArrayList<>();
+
+        /**
+         * @param table a count, then one {emoji, name} pair of modified UTF-8 strings per emoji. Bytes after
+         *              the last pair are ignored.
+         */
+        public Builder(byte[] table) {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(table));
+            try {
+                int count = in.readInt();
+                mNames = new LinkedHashMap<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    mNames.put(in.readUTF(), in.readUTF());
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Invalid emojicon names", e);
+            }
+        }
+
+        /**
+         * Index the given emoji, unless it has no name or was already added.
+         *
+         * @return whether the emoji was added
+         */
+        public boolean add(CharSequence emoji) {
+            String key = getKey(emoji);
+            String name = mNames.get(key);
+            if (name == null || mEntries.containsKey(key)) {
+                return false;
+            }
+            mEntries.put(key, mEmojis.size());
+            mEmojis.add(emoji.toString());
+            mEntryNames.add(name);
+            return true;
+        }
+
+        /**
+         * Index every emoji named by the table, in the order of the table.
+         */
+        public Builder addAll() {
+            for (String emoji : mNames.keySet()) {
+                add(emoji);
+            }
+            return this;
+        }
+
+        public EmojiconIndex build() {
+            return new EmojiconIndex(this);
+        }
+    }
+
+    private final String[] mEmojis;
+    private final String[] mNames;
+    private final Map<String, Integer> mEntries;
+
+    /**
+     * The keywords of emoji i are mKeywords[mKeywordStart[i]] to mKeywords[mKeywordStart[i + 1] - 1].
+     */
+    private final int[] mKeywordStart;
+    private final String[] mKeywords;
+
+    /**
+     * Every (keyword, emoji) pair, sorted by keyword.
+     */
+    private final String[] mKeys;
+    private final int[] mKeyEntries;
+
+    private final int[] mBoosts;
+
+    private EmojiconIndex(Builder builder) {
+        int size = builder.mEmojis.size();
+        mEmojis = builder.mEmojis.toArray(new String[size]);
+        mNames = new String[size];
+        mEntries = new HashMap<>(builder.mEntries);
+        mKeywordStart = new int[size + 1];
+        mBoosts = new int[size];
+
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            mKeywordStart[i] = keywords.size();
+            StringBuilder name = new StringBuilder();
+            for (String word : builder.mEntryNames.get(i).toLowerCase(Locale.US).split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    keywords.add(word);
+                    name.append(name.length() == 0 ? "" : "_").append(word);
+                }
+            }
+            mNames[i] = name.toString();
+        }
+        mKeywordStart[size] = keywords.size();
+        mKeywords = keywords.toArray(new String[keywords.size()]);
+
+        // a name may repeat a keyword, e.g. "smiling face with smiling eyes": keep one pair
+        final int[] entries = new int[mKeywords.length];
+        Integer[] order = new Integer[mKeywords.length];
+        for (int i = 0; i < size; i++) {
+            for (int k = mKeywordStart[i]; k < mKeywordStart[i + 1]; k++) {
+                entries[k] = i;
+                order[k] = k;
+            }
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer lhs, Integer rhs) {
+                int result = mKeywords[lhs].compareTo(mKeywords[rhs]);
+                return result != 0 ? result : entries[lhs] - entries[rhs];
+            }
+        });
+        int count = 0;
+        String[] keys = new String[order.length];
+        int[] keyEntries = new int[order.length];
+        for (Integer k : order) {
+            if (count == 0 || keyEntries[count - 1] != entries[k] || !keys[count - 1].equals(mKeywords[k])) {
+                keys[count] = mKeywords[k];
+                keyEntries[count] = entries[k];
+                count++;
+            }
+        }
+        mKeys = Arrays.copyOf(keys, count);
+        mKeyEntries = Arrays.copyOf(keyEntries, count);
+    }
+
+    /**
+     * @return the index of every emoji named by the table bundled with this module, loaded on first use
+     */
+    public static EmojiconIndex getDefault() {
+        EmojiconIndex index = sDefault;
+        if (index == null) {
+            synchronized (LOCK) {
+                index = sDefault;
+                if (index == null) {
+                    index = newBuilder().addAll().build();
+                    sDefault = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return a builder of the names bundled with this module, to index some of the emojis only
+     */
+    public static Builder newBuilder() {
+        InputStream in = EmojiconIndex.class.getResourceAsStream(DEFAULT_TABLE);
+        if (in == null) {
+            throw new IllegalStateException("Missing emojicon names");
+        }
+        try {
+            return new Builder(readFully(in));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the emojicon names", e);
+        } finally {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // swallow
+            }
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * The emojis are looked up without their U+FE0F, which is optional.
+     */
+    private static String getKey(CharSequence emoji) {
+        StringBuilder key = new StringBuilder(emoji.length());
+        for (int i = 0; i < emoji.length(); i++) {
+            if (emoji.charAt(i) != VARIATION_SELECTOR_16) {
+                key.append(emoji.charAt(i));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the number of emojis
+     */
+    public int size() {
+        return mEmojis.length;
+    }
+
+    /**
+     * @return the emoji at the given index, as it was added
+     */
+    public String getEmoji(int index) {
+        return mEmojis[index];
+    }
+
+    /**
+     * @return the short name of the emoji at the given index, e.g. "smiling_face_with_open_mouth"
+     */
+    public String getName(int index) {
+        return mNames[index];
+    }
+
+    /**
+     * @return the index of the given emoji, or -1 if it isn't indexed
+     */
+    public int indexOf(CharSequence emoji) {
+        Integer index = mEntries.get(getKey(emoji));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Rank the given emoji above the other matches of the same quality, e.g. for the recent ones.
+     *
+     * @param boost from 0, no boost, to {@link #MAX_BOOST}
+     */
+    public void setBoost(int index, int boost) {
+        mBoosts[index] = Math.max(0, Math.min(boost, MAX_BOOST));
+    }
+
+    public void clearBoosts() {
+        Arrays.fill(mBoosts, 0);
+    }
+
+    /**
+     * Find the best emojis for the given query, words of letters and digits separated by anything else.
+     *
+     * @return the number of results, at most {@link Query#getMaxCount()}, see {@link Query#get(int)}
+     */
+    public int search(CharSequence query, Query q) {
+        q.start(mEmojis.length);
+        int words = split(query, q);
+        if (words == 0 || q.getMaxCount() == 0) {
+            return 0;
+        }
+
+        int from = 0;
+        int to = Integer.MAX_VALUE;
+        int walked = 0;
+        for (int w = 0; w < words; w++) {
+            int start = lowerBound(query, q.mWordStarts[w], q.mWordEnds[w], 0);
+            int end = lowerBound(query, q.mWordStarts[w], q.mWordEnds[w], 1);
+            if (end - start < to - from) {
+                from = start;
+                to = end;
+                walked = w;
+            }
+        }
+
+        // the keyword equal to the walked word, if any, comes first in the slice, so the first key seen
+        // for an emoji is its best one for that word
+        int length = q.mWordEnds[walked] - q.mWordStarts[walked];
+        for (int k = from; k < to; k++) {
+            int entry = mKeyEntries[k];
+            if (q.see(entry)) {
+                int keywords = mKeywordStart[entry + 1] - mKeywordStart[entry];
+                int score = ((mKeys[k].length() == length ? 2 : 1) << 10) + (mBoosts[entry] << 4)
+                        + MAX_KEYWORDS - Math.min(keywords, MAX_KEYWORDS);
+                if (words == 1 || (q.canRank(entry, score + ((2 * (words - 1)) << 10))
+                        && (score = score(entry, query, q, words, walked, score)) >= 0)) {
+                    q.offer(entry, score);
+                }
+            }
+        }
+        return q.mCount;
+    }
+
+    /**
+     * @return the number of words of the query, whose bounds are stored in the given query
+     */
+    private static int split(CharSequence query, Query q) {
+        int words = 0;
+        int length = query.length();
+        int i = 0;
+        while (i < length && words < MAX_WORDS) {
+            while (i < length && !Character.isLetterOrDigit(query.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            q.mWordStarts[words] = i;
+            while (i < length && Character.isLetterOrDigit(query.charAt(i))) {
+                i++;
+            }
+            q.mWordEnds[words++] = i;
+        }
+        return words;
+    }
+
+    /**
+     * @param bias 0 for the first key starting with the word or after it, 1 for the first key after the
+     *             ones starting with the word
+     */
+    private int lowerBound(CharSequence query, int start, int end, int bias) {
+        int low = 0;
+        int high = mKeys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparePrefix(mKeys[middle], query, start, end) < bias) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compare the given key, cut at the length of the word, to the word.
+     */
+    private static int comparePrefix(String key, CharSequence query, int start, int end) {
+        int length = Math.min(key.length(), end - start);
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(query.charAt(start + i));
+            if (key.charAt(i) != c) {
+                return key.charAt(i) - c;
+            }
+        }
+        return key.length() < end - start ? -1 : 0;
+    }
+
+    /**
+     * @return the given score plus the quality of the other words than the walked one, or -1 if one of
+     * them isn't the prefix of a keyword of the emoji
+     */
+    private int score(int entry, CharSequence query, Query q, int words, int walked, int score) {
+        int first = mKeywordStart[entry];
+        int last = mKeywordStart[entry + 1];
+        for (int w = 0; w < words; w++) {
+            if (w == walked) {
+                continue;
+            }
+            int start = q.mWordStarts[w];
+            int end = q.mWordEnds[w];
+            int best = 0;
+            for (int k = first; k < last && best < 2; k++) {
+                if (comparePrefix(mKeywords[k], query, start, end) == 0) {
+                    best = Math.max(best, mKeywords[k].length() == end - start ? 2 : 1);
+                }
+            }
+            if (best == 0) {
+                return -1;
+            }
+            score += best << 10;
+        }
+        return score;
+    }
+}
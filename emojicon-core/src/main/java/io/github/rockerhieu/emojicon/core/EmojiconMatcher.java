@@ -0,0 +1,464 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds the emoji sequences of a text, without any Android dependency. A match is reported as
+ * (start, end, id), where id is the index of the emoji drawable in the table generated by the
+ * generateEmojiconTable task, i.e. the drawables sorted by name.
+ * <p>
+ * The matcher is a compiled codepoint trie used to find the longest emoji sequence starting at a
+ * given index.
+ * Every node is stored in flat primitive arrays: the outgoing edges of a node are a sorted slice of
+ * {@link #mEdgeKeys}, so a lookup is a binary search per codepoint and matching never allocates. The
+ * children of the root, looked up for every char of the text, are instead indexed by codepoint, see
+ * {@link #mRootPages}, so that plain text is rejected with a couple of array reads.
+ * U+FE0F (variation selector-16) is transparent: it is dropped from the sequences put in the trie and
+ * a single one after each codepoint of the current match is consumed as part of it.
+ */
+public final class EmojiconMatcher {
+    /**
+     * Returned by {@link #match(CharSequence, int, int)} when no emoji starts at the given index.
+     */
+    public static final long NO_MATCH = -1L;
+
+    /**
+     * Receives the matches found by {@link #findAll(CharSequence, int, int, Callback)}.
+     */
+    public interface Callback {
+        /**
+         * @param start index of the first char of the emoji
+         * @param end   index after the last char of the emoji
+         * @param id    index of the emoji drawable
+         */
+        void onMatch(int start, int end, int id);
+    }
+
+    private static final int VARIATION_SELECTOR_16 = 0xfe0f;
+
+    private static final String DEFAULT_TABLE = "emojicon_table";
+
+    private static final Object LOCK = new Object();
+    private static volatile EmojiconMatcher sDefault;
+
+    private final int[] mEdgeStart;
+    private final int[] mEdgeKeys;
+    private final int[] mEdgeTargets;
+    private final int[] mValues;
+    private final int mMaxLength;
+
+    /**
+     * The children of the root by codepoint, in pages of 256: mRootPages[c >>> 8][c & 0xff], 0 for none.
+     * Only the pages with a child are allocated, a few kilobytes in all.
+     */
+    private final int[][] mRootPages;
+
+    /**
+     * Bit set of the chars that every match contains at least one of, see {@link #mayContainEmoji}.
+     */
+    private final long[] mTriggers = new long[0x10000 / 64];
+    private char mMinTrigger = Character.MAX_VALUE;
+
+    private EmojiconMatcher(int[] edgeStart, int[] edgeKeys, int[] edgeTargets, int[] values, int maxLength) {
+        mEdgeStart = edgeStart;
+        mEdgeKeys = edgeKeys;
+        mEdgeTargets = edgeTargets;
+        mValues = values;
+        mMaxLength = maxLength;
+
+        int rootEdges = edgeStart[1] - edgeStart[0];
+        mRootPages = new int[rootEdges == 0 ? 0 : (edgeKeys[edgeStart[1] - 1] >>> 8) + 1][];
+        for (int edge = edgeStart[0]; edge < edgeStart[1]; edge++) {
+            int key = edgeKeys[edge];
+            if (mRootPages[key >>> 8] == null) {
+                mRootPages[key >>> 8] = new int[256];
+            }
+            mRootPages[key >>> 8][key & 0xff] = edgeTargets[edge];
+        }
+
+        for (int edge = edgeStart[0]; edge < edgeStart[1]; edge++) {
+            int node = edgeTargets[edge];
+            if (edgeKeys[edge] >= 0x80 || values[node] != 0) {
+                addTrigger(edgeKeys[edge]);
+            } else {
+                // an ASCII char alone isn't an emoji, e.g. the digit of a keycap: trigger on what follows
+                for (int child = edgeStart[node]; child < edgeStart[node + 1]; child++) {
+                    addTrigger(edgeKeys[child]);
+                }
+            }
+        }
+    }
+
+    private void addTrigger(int codePoint) {
+        char c = Character.toChars(codePoint)[0];
+        mTriggers[c >>> 6] |= 1L << c;
+        mMinTrigger = (char) Math.min(mMinTrigger, c);
+    }
+
+    /**
+     * @return the matcher of the table bundled with this module, loaded on first use
+     */
+    public static EmojiconMatcher getDefault() {
+        EmojiconMatcher matcher = sDefault;
+        if (matcher == null) {
+            synchronized (LOCK) {
+                matcher = sDefault;
+                if (matcher == null) {
+                    InputStream in = EmojiconMatcher.class.getResourceAsStream(DEFAULT_TABLE);
+                    if (in == null) {
+                        throw new IllegalStateException("Missing emojicon table");
+                    }
+                    try {
+                        matcher = read(in);
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Unable to read the emojicon table", e);
+                    }
+                    sDefault = matcher;
+                }
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * @return the maximum length, in chars, of a match, counting a U+FE0F after every codepoint
+     */
+    public int getMaxLength() {
+        return mMaxLength;
+    }
+
+    /**
+     * Quickly check whether the given range may contain an emoji, without matching it: if this returns
+     * false, there is none. Plain text, such as ASCII, is checked with a single comparison per char.
+     * An emoji is only found if the range covers all of it: the char this looks for may be its last one,
+     * e.g. the U+20E3 of a keycap.
+     */
+    public boolean mayContainEmoji(CharSequence text, int start, int end) {
+        long[] triggers = mTriggers;
+        char minTrigger = mMinTrigger;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= minTrigger && (triggers[c >>> 6] & (1L << c)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the longest emoji sequence starting at {@code start}.
+     *
+     * @param text  the text to match against
+     * @param start index of the first char of the candidate sequence
+     * @param limit index after the last char that may be part of the sequence
+     * @return {@link #NO_MATCH}, or the match packed as a long; use {@link #getEnd(long)} and
+     * {@link #getId(long)} to unpack it
+     */
+    public long match(CharSequence text, int start, int limit) {
+        int node = 0;
+        int matchEnd = -1;
+        int matchValue = 0;
+        boolean selector = false;
+        int i = start;
+        while (i < limit) {
+            int codePoint = text.charAt(i);
+            int charCount = 1;
+            if (Character.isHighSurrogate((char) codePoint) && i + 1 < limit) {
+                char low = text.charAt(i + 1);
+                if (Character.isLowSurrogate(low)) {
+                    codePoint = Character.toCodePoint((char) codePoint, low);
+                    charCount = 2;
+                }
+            }
+
+            if (codePoint == VARIATION_SELECTOR_16 && node != 0) {
+                // at most one after each codepoint, so that no match is longer than getMaxLength()
+                if (selector) {
+                    break;
+                }
+                selector = true;
+                if (matchEnd == i) {
+                    matchEnd++;
+                }
+                i++;
+                continue;
+            }
+
+            int next = node == 0 ? findRootChild(codePoint) : findChild(node, codePoint);
+            if (next <= 0) {
+                break;
+            }
+
+            node = next;
+            selector = false;
+            i += charCount;
+            if (mValues[node] != 0) {
+                matchEnd = i;
+                matchValue = mValues[node];
+            }
+        }
+        if (matchEnd < 0) {
+            return NO_MATCH;
+        }
+        return ((long) matchEnd << 32) | ((matchValue - 1) & 0xffffffffL);
+    }
+
+    /**
+     * Report every emoji between {@code start} and {@code end} to {@code callback}, in order.
+     *
+     * @return the number of emojis found
+     */
+    public int findAll(CharSequence text, int start, int end, Callback callback) {
+        int count = 0;
+        int i = start;
+        while (i < end) {
+            long match = match(text, i, end);
+            if (match == NO_MATCH) {
+                i++;
+                continue;
+            }
+            int matchEnd = getEnd(match);
+            callback.onMatch(i, matchEnd, getId(match));
+            count++;
+            i = matchEnd;
+        }
+        return count;
+    }
+
+    /**
+     * Write the emojis between {@code start} and {@code end} to {@code matches}, as consecutive
+     * (start, end, id) triples. Stops when {@code matches} is full: if the returned count is
+     * {@code matches.length / 3}, call again from the end of the last match to get the next ones.
+     *
+     * @return the number of emojis written
+     */
+    public int findAll(CharSequence text, int start, int end, int[] matches) {
+        int capacity = matches.length / 3;
+        int count = 0;
+        int i = start;
+        while (i < end && count < capacity) {
+            long match = match(text, i, end);
+            if (match == NO_MATCH) {
+                i++;
+                continue;
+            }
+            int matchEnd = getEnd(match);
+            matches[count * 3] = i;
+            matches[count * 3 + 1] = matchEnd;
+            matches[count * 3 + 2] = getId(match);
+            count++;
+            i = matchEnd;
+        }
+        return count;
+    }
+
+    /**
+     * Read a table generated by the generateEmojiconTable task: a record count, then one
+     * {id (2 bytes), length (1 byte), codepoints (3 bytes each)} record per sequence, big endian.
+     * Bytes after the last record are ignored.
+     */
+    public static EmojiconMatcher read(byte[] table) {
+        Builder builder = new Builder();
+        int[] codePoints = new int[8];
+        int count = readInt(table, 0, 4);
+        int position = 4;
+        for (int record = 0; record < count; record++) {
+            // 0 means no value in the trie
+            int value = readInt(table, position, 2) + 1;
+            int length = table[position + 2] & 0xff;
+            position += 3;
+            if (length > codePoints.length) {
+                codePoints = new int[length];
+            }
+            for (int i = 0; i < length; i++) {
+                codePoints[i] = readInt(table, position, 3);
+                position += 3;
+            }
+            builder.put(codePoints, 0, length, value);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Read a table from the given stream, see {@link #read(byte[])}. The stream isn't closed.
+     */
+    public static EmojiconMatcher read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return read(out.toByteArray());
+    }
+
+    private static int readInt(byte[] table, int position, int bytes) {
+        int value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << 8) | (table[position + i] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * @return the index after the last char of a match returned by {@link #match(CharSequence, int, int)}
+     */
+    public static int getEnd(long match) {
+        return (int) (match >>> 32);
+    }
+
+    /**
+     * @return the emoji id of a match returned by {@link #match(CharSequence, int, int)}
+     */
+    public static int getId(long match) {
+        return (int) match;
+    }
+
+    /**
+     * @return the child of the root for the given codepoint, or 0 if there is none
+     */
+    private int findRootChild(int codePoint) {
+        int page = codePoint >>> 8;
+        if (page >= mRootPages.length || mRootPages[page] == null) {
+            return 0;
+        }
+        return mRootPages[page][codePoint & 0xff];
+    }
+
+    /**
+     * @return the child of the given node for the given codepoint, or -1 if there is none
+     */
+    private int findChild(int node, int codePoint) {
+        int low = mEdgeStart[node];
+        int high = mEdgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int key = mEdgeKeys[mid];
+            if (key < codePoint) {
+                low = mid + 1;
+            } else if (key > codePoint) {
+                high = mid - 1;
+            } else {
+                return mEdgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static final class Builder {
+        private final Node mRoot = new Node();
+        private int mNodeCount = 1;
+        private int mMaxDepth;
+
+        /**
+         * Map a single codepoint to the given value.
+         */
+        Builder put(int codePoint, int value) {
+            child(mRoot, codePoint).value = value;
+            mMaxDepth = Math.max(mMaxDepth, 1);
+            return this;
+        }
+
+        /**
+         * Map a sequence of codepoints to the given value.
+         */
+        Builder put(int[] codePoints, int value) {
+            return put(codePoints, 0, codePoints.length, value);
+        }
+
+        /**
+         * Map {@code length} codepoints of {@code codePoints}, starting at {@code offset}, to the given value.
+         */
+        Builder put(int[] codePoints, int offset, int length, int value) {
+            Node node = mRoot;
+            int depth = 0;
+            for (int i = offset; i < offset + length; i++) {
+                if (codePoints[i] != VARIATION_SELECTOR_16) {
+                    node = child(node, codePoints[i]);
+                    depth++;
+                }
+            }
+            node.value = value;
+            mMaxDepth = Math.max(mMaxDepth, depth);
+            return this;
+        }
+
+        EmojiconMatcher build() {
+            int[] edgeStart = new int[mNodeCount + 1];
+            int[] edgeKeys = new int[mNodeCount - 1];
+            int[] edgeTargets = new int[mNodeCount - 1];
+            int[] values = new int[mNodeCount];
+
+            // breadth first, so that node ids are assigned in the same order as their edge slices
+            List<Node> queue = new ArrayList<>(mNodeCount);
+            queue.add(mRoot);
+            int edge = 0;
+            for (int id = 0; id < queue.size(); id++) {
+                Node node = queue.get(id);
+                values[id] = node.value;
+                edgeStart[id] = edge;
+                for (int k = 0; k < node.size; k++) {
+                    edgeKeys[edge] = node.keys[k];
+                    edgeTargets[edge] = queue.size();
+                    queue.add(node.children[k]);
+                    edge++;
+                }
+            }
+            edgeStart[mNodeCount] = edge;
+            return new EmojiconMatcher(edgeStart, edgeKeys, edgeTargets, values, mMaxDepth * 3);
+        }
+
+        private Node child(Node node, int codePoint) {
+            int index = Arrays.binarySearch(node.keys, 0, node.size, codePoint);
+            if (index >= 0) {
+                return node.children[index];
+            }
+            Node child = new Node();
+            node.insert(-index - 1, codePoint, child);
+            mNodeCount++;
+            return child;
+        }
+    }
+
+    /**
+     * Mutable node used while building, its keys are kept sorted.
+     */
+    private static final class Node {
+        int value;
+        int size;
+        int[] keys = new int[2];
+        Node[] children = new Node[2];
+
+        void insert(int index, int key, Node child) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                children = Arrays.copyOf(children, size * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(children, index, children, index + 1, size - index);
+            keys[index] = key;
+            children[index] = child;
+            size++;
+        }
+    }
+}
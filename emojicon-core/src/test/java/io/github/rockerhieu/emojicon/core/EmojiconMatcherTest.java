@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon.core;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that U+FE0F is only consumed once after each codepoint of a match, so that no match is
+ * longer than {@link EmojiconMatcher#getMaxLength()}, which EmojiconHandler.updateEmojis relies on.
+ */
+public class EmojiconMatcherTest {
+    private static final String GRINNING = "\ud83d\ude00";
+    private static final String SELECTORS = repeat("\ufe0f", 40);
+
+    private final EmojiconMatcher mMatcher = EmojiconMatcher.getDefault();
+
+    @Test
+    public void oneSelectorAfterEachCodePoint() {
+        assertEquals(2, end(GRINNING));
+        assertEquals(3, end(GRINNING + "\ufe0f"));
+        assertEquals(3, end(GRINNING + SELECTORS));
+        assertEquals(3, end("1\ufe0f\u20e3"));
+        assertEquals(4, end("1\ufe0f\u20e3\ufe0f"));
+        assertEquals(4, end("1\ufe0f\u20e3" + SELECTORS));
+        // a digit followed by a run of selectors is no keycap
+        assertEquals(EmojiconMatcher.NO_MATCH, mMatcher.match("1" + SELECTORS + "\u20e3", 0, 42));
+    }
+
+    @Test
+    public void matchesNoLongerThanMaxLength() {
+        String[] pieces = {GRINNING, "\ufe0f", "\u200d", "\u2764", "\ud83d\udc68", "\ud83c\udffb", "1", "\u20e3",
+                "\ud83c\uddfa", "\ud83c\uddf8", "a"};
+        Random random = new Random(1);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder text = new StringBuilder();
+            int count = random.nextInt(40);
+            for (int k = 0; k < count; k++) {
+                text.append(pieces[random.nextInt(pieces.length)]);
+            }
+            for (int start = 0; start < text.length(); start++) {
+                long match = mMatcher.match(text, start, text.length());
+                if (match != EmojiconMatcher.NO_MATCH) {
+                    assertTrue(text + " at " + start, EmojiconMatcher.getEnd(match) - start <= mMatcher.getMaxLength());
+                }
+            }
+        }
+    }
+
+    private int end(String text) {
+        long match = mMatcher.match(text, 0, text.length());
+        return match == EmojiconMatcher.NO_MATCH ? -1 : EmojiconMatcher.getEnd(match);
+    }
+
+    private static String repeat(String s, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(s);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.text.SpannableStringBuilder;
+import android.text.style.DynamicDrawableSpan;
+import android.util.Log;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Times a keystroke in a chat-like text of {@link #LENGTH} chars: {@link EmojiconHandler#updateEmojis}
+ * of the edited region, as EmojiconEditText.onTextChanged does, against {@link EmojiconHandler#addEmojis}
+ * of the whole text. Every keystroke types a char then deletes it, at a random index. The times are
+ * logged under the {@value #TAG} tag.
+ */
+@RunWith(AndroidJUnit4.class)
+public class EmojiconHandlerBenchmark {
+    private static final String TAG = "EmojiconBenchmark";
+
+    private static final int LENGTH = 10000;
+    private static final int WARMUP = 200;
+    private static final int KEYSTROKES = 1000;
+    private static final int SIZE = 32;
+
+    private static final String[] WORDS = {
+            "hey", "are", "we", "still", "on", "for", "tonight", "?", "yes", "see", "you", "at", "8", "lol",
+            "\ud83d\ude00", "\ud83d\ude02", "\u2764\ufe0f", "\ud83d\udc4d\ud83c\udffd", "1\u20e3",
+            "\ud83d\udc68\u200d\ud83d\udc69\u200d\ud83d\udc67", "\ud83c\uddfa\ud83c\uddf8", "\ue415",
+    };
+
+    @Test
+    public void keystroke() {
+        Context context = InstrumentationRegistry.getTargetContext();
+        SpannableStringBuilder text = new SpannableStringBuilder(newText(new Random(1)));
+        EmojiconHandler.addEmojis(context, text, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE);
+
+        Random random = new Random(2);
+        type(context, text, random, WARMUP, false);
+        long update = type(context, text, random, KEYSTROKES, false);
+        type(context, text, random, WARMUP, true);
+        long add = type(context, text, random, KEYSTROKES, true);
+
+        Log.i(TAG, String.format("%d chars, %d emojicons: updateEmojis %d us/keystroke, addEmojis %d us/keystroke",
+                text.length(), text.getSpans(0, text.length(), EmojiconSpan.class).length,
+                update / KEYSTROKES / 1000, add / KEYSTROKES / 1000));
+        assertTrue("updateEmojis is slower than converting the whole text", update < add);
+    }
+
+    /**
+     * @return the time spent converting, in nanoseconds
+     */
+    private static long type(Context context, SpannableStringBuilder text, Random random, int keystrokes, boolean all) {
+        long time = 0;
+        for (int i = 0; i < keystrokes; i++) {
+            int index = random.nextInt(text.length() + 1);
+            text.insert(index, "a");
+            time += convert(context, text, index, 1, all);
+            text.delete(index, index + 1);
+            time += convert(context, text, index, 0, all);
+        }
+        return time;
+    }
+
+    private static long convert(Context context, SpannableStringBuilder text, int start, int length, boolean all) {
+        long time = System.nanoTime();
+        if (all) {
+            EmojiconHandler.addEmojis(context, text, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE);
+        } else {
+            EmojiconHandler.updateEmojis(context, text, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE, start, length,
+                    false);
+        }
+        return System.nanoTime() - time;
+    }
+
+    private static String newText(Random random) {
+        StringBuilder text = new StringBuilder(LENGTH + 16);
+        while (text.length() < LENGTH) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+        text.setLength(LENGTH);
+        return text.toString();
+    }
+}
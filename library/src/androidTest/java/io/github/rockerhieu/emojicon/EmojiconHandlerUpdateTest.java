@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.text.SpannableStringBuilder;
+import android.text.style.DynamicDrawableSpan;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Checks {@link EmojiconHandler#updateEmojis} against converting the whole text again with
+ * {@link EmojiconHandler#addEmojis}, after random edits of random texts made of emoji fragments: ZWJ,
+ * U+FE0F, keycap, skin tone and regional indicator parts, SoftBank chars and lone surrogates.
+ */
+@RunWith(AndroidJUnit4.class)
+public class EmojiconHandlerUpdateTest {
+    private static final String[] PIECES = {
+            "a", " ", "1", "#", "", "\ud83d\ude04", "\u200d", "\ud83d\udc68", "\ud83d\udc69", "\ud83d\udc67",
+            "\u2764", "\ufe0f", "\ud83d\udc8b", "\u20e3", "\ud83d\udc4d", "\ud83c\udffb", "\ud83c\udfff",
+            "\ud83c\uddfa", "\ud83c\uddf8", "\ud83d", "\ue415",
+    };
+
+    private static final int TEXTS = 20000;
+    private static final int EDITS = 5;
+    private static final int SIZE = 32;
+
+    @Test
+    public void updateEmojisMatchesAddEmojis() {
+        Context context = InstrumentationRegistry.getTargetContext();
+        Random random = new Random(1);
+        for (int i = 0; i < TEXTS; i++) {
+            SpannableStringBuilder text = new SpannableStringBuilder(randomText(random, 12));
+            EmojiconHandler.addEmojis(context, text, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE);
+            for (int edit = 0; edit < EDITS; edit++) {
+                int start = random.nextInt(text.length() + 1);
+                int end = start + random.nextInt(text.length() - start + 1);
+                String insert = randomText(random, 4);
+                String before = text.toString();
+                text.replace(start, end, insert);
+                EmojiconHandler.updateEmojis(context, text, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE,
+                        start, insert.length(), false);
+
+                SpannableStringBuilder expected = new SpannableStringBuilder(text.toString());
+                EmojiconHandler.addEmojis(context, expected, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE);
+                List<String> expectedSpans = getSpans(expected);
+                List<String> actualSpans = getSpans(text);
+                if (!expectedSpans.equals(actualSpans)) {
+                    fail("Replacing [" + start + ", " + end + ") of " + escape(before) + " with " + escape(insert)
+                            + ": expected " + expectedSpans + " but was " + actualSpans);
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts windows of random texts chunk by chunk, as EmojiconTextView does progressively, and checks
+     * them against addEmojis with the window as index and length. The spans out of the range returned for
+     * a chunk must be left as they were.
+     */
+    @Test
+    public void windowedUpdateEmojisMatchesAddEmojis() {
+        Context context = InstrumentationRegistry.getTargetContext();
+        Random random = new Random(2);
+        for (int i = 0; i < TEXTS; i++) {
+            String string = randomText(random, 24);
+            int windowStart = random.nextInt(string.length() + 1);
+            int windowEnd = windowStart + random.nextInt(string.length() - windowStart + 1);
+            SpannableStringBuilder text = new SpannableStringBuilder(string);
+            for (int next = windowStart; next < windowEnd; ) {
+                int length = Math.min(1 + random.nextInt(8), windowEnd - next);
+                List<String> before = getSpans(text);
+                long range = EmojiconHandler.updateEmojis(context, text, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE,
+                        next, length, windowStart, windowEnd);
+                int rangeStart = (int) (range >>> 32);
+                int rangeEnd = (int) range;
+                if (!getSpansOutside(before, rangeStart, rangeEnd).equals(getSpansOutside(getSpans(text), rangeStart, rangeEnd))) {
+                    fail("Converting [" + next + ", " + (next + length) + ") of " + escape(string) + " changed spans out of ["
+                            + rangeStart + ", " + rangeEnd + "): " + before + " to " + getSpans(text));
+                }
+                next += length;
+            }
+
+            SpannableStringBuilder expected = new SpannableStringBuilder(string);
+            EmojiconHandler.addEmojis(context, expected, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE,
+                    windowStart, windowEnd - windowStart);
+            List<String> expectedSpans = getSpans(expected);
+            List<String> actualSpans = getSpans(text);
+            if (!expectedSpans.equals(actualSpans)) {
+                fail("Converting [" + windowStart + ", " + windowEnd + ") of " + escape(string)
+                        + ": expected " + expectedSpans + " but was " + actualSpans);
+            }
+        }
+    }
+
+    private static String randomText(Random random, int maxPieces) {
+        StringBuilder text = new StringBuilder();
+        int count = random.nextInt(maxPieces);
+        for (int i = 0; i < count; i++) {
+            text.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return the ranges of the emojicon spans, sorted
+     */
+    private static List<String> getSpans(SpannableStringBuilder text) {
+        List<String> spans = new ArrayList<>();
+        for (EmojiconSpan span : text.getSpans(0, text.length(), EmojiconSpan.class)) {
+            spans.add(text.getSpanStart(span) + "-" + text.getSpanEnd(span));
+        }
+        Collections.sort(spans);
+        return spans;
+    }
+
+    private static List<String> getSpansOutside(List<String> spans, int start, int end) {
+        List<String> outside = new ArrayList<>();
+        for (String span : spans) {
+            int dash = span.indexOf('-');
+            if (Integer.parseInt(span.substring(dash + 1)) <= start || Integer.parseInt(span.substring(0, dash)) >= end) {
+                outside.add(span);
+            }
+        }
+        return outside;
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            escaped.append(String.format("\\u%04x", (int) text.charAt(i)));
+        }
+        return escaped.append('"').toString();
+    }
+}
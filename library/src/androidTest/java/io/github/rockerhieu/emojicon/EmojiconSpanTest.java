@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.text.style.DynamicDrawableSpan;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that {@link EmojiconSpan} doesn't allocate once its bitmap is loaded, whatever line it is drawn
+ * on, by counting the allocations of the process. Skipped where the runtime doesn't count them: the
+ * counting is deprecated, and ART only supports it in some builds.
+ */
+@RunWith(AndroidJUnit4.class)
+public class EmojiconSpanTest {
+    private static final int SIZE = 48;
+    private static final int ITERATIONS = 1000;
+    private static final String TEXT = "\ud83d\ude04";
+
+    private final Paint mPaint = new Paint();
+    private final Paint.FontMetricsInt mFontMetrics = new Paint.FontMetricsInt();
+    private Canvas mCanvas;
+
+    @Before
+    public void setUp() {
+        mCanvas = new Canvas(Bitmap.createBitmap(SIZE * 4, SIZE * 4, Bitmap.Config.ARGB_8888));
+    }
+
+    @After
+    public void tearDown() {
+        Debug.stopAllocCounting();
+    }
+
+    @Test
+    public void drawDoesNotAllocate() {
+        assertNoAllocations(DynamicDrawableSpan.ALIGN_BASELINE);
+    }
+
+    @Test
+    public void drawBottomAlignedDoesNotAllocate() {
+        assertNoAllocations(DynamicDrawableSpan.ALIGN_BOTTOM);
+    }
+
+    private void assertNoAllocations(int alignment) {
+        Context context = InstrumentationRegistry.getTargetContext();
+        EmojiconSpan span = new EmojiconSpan(context, R.drawable.emoji_1f604, SIZE, alignment, SIZE);
+        // the first calls load the bitmap
+        span.getSize(mPaint, TEXT, 0, TEXT.length(), mFontMetrics);
+        draw(span, 0);
+
+        assumeTrue("allocation counting isn't supported", isAllocCountingSupported());
+        Debug.resetGlobalAllocCount();
+        Debug.startAllocCounting();
+        for (int i = 0; i < ITERATIONS; i++) {
+            span.getSize(mPaint, TEXT, 0, TEXT.length(), mFontMetrics);
+            span.getSize(mPaint, TEXT, 0, TEXT.length(), null);
+            // the same line on most frames, another one from time to time
+            draw(span, i % 100 == 0 ? i : 0);
+        }
+        Debug.stopAllocCounting();
+        // the count is process wide: tolerate a few allocations of other threads, not one per draw
+        int count = Debug.getGlobalAllocCount();
+        assertTrue(count + " allocations for " + ITERATIONS + " draws", count < ITERATIONS);
+    }
+
+    /**
+     * @return whether the allocations of a counting window are counted
+     */
+    private static boolean isAllocCountingSupported() {
+        Debug.resetGlobalAllocCount();
+        Debug.startAllocCounting();
+        Object[] probes = new Object[16];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = new Object();
+        }
+        Debug.stopAllocCounting();
+        return Debug.getGlobalAllocCount() >= probes.length;
+    }
+
+    private void draw(EmojiconSpan span, int top) {
+        top %= SIZE * 2;
+        span.draw(mCanvas, TEXT, 0, TEXT.length(), 0, top, top + SIZE, top + SIZE + SIZE / 4, mPaint);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.app.Instrumentation;
+import android.content.ComponentCallbacks2;
+import android.content.Intent;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentManager;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link EmojiconsFragment#trimMemory(int)} releases the grid fragments of a kept view,
+ * so that inflating the view again doesn't add a second set of them to the host.
+ */
+@RunWith(AndroidJUnit4.class)
+public class EmojiconsFragmentTest {
+    @Test
+    public void trimMemoryRemovesGridFragments() {
+        Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+        Intent intent = new Intent(instrumentation.getTargetContext(), EmojiconsTestActivity.class)
+                .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+        final EmojiconsTestActivity activity = (EmojiconsTestActivity) instrumentation.startActivitySync(intent);
+        final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+        final EmojiconsFragment fragment = EmojiconsFragment.newInstance(false, false, true);
+        try {
+            instrumentation.runOnMainSync(new Runnable() {
+                @Override
+                public void run() {
+                    fragmentManager.beginTransaction().add(android.R.id.content, fragment).commitNow();
+                }
+            });
+            // the pager adds the grid fragments when it is laid out
+            instrumentation.waitForIdleSync();
+            final int opened = countGridFragments(fragmentManager);
+            assertTrue("no grid fragment", opened > 0);
+
+            instrumentation.runOnMainSync(new Runnable() {
+                @Override
+                public void run() {
+                    fragmentManager.beginTransaction().detach(fragment).commitNow();
+                    fragment.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+                    assertEquals(0, countGridFragments(fragmentManager));
+                    fragmentManager.beginTransaction().attach(fragment).commitNow();
+                }
+            });
+            instrumentation.waitForIdleSync();
+            assertEquals(opened, countGridFragments(fragmentManager));
+        } finally {
+            activity.finish();
+        }
+    }
+
+    private static int countGridFragments(FragmentManager fragmentManager) {
+        int count = 0;
+        if (fragmentManager.getFragments() != null) {
+            for (Fragment fragment : fragmentManager.getFragments()) {
+                if (fragment instanceof EmojiconGridFragment && fragment.isAdded()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
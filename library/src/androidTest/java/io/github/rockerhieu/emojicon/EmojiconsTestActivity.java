@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.support.v4.app.FragmentActivity;
+import android.view.View;
+
+import io.github.rockerhieu.emojicon.emoji.Emojicon;
+
+/**
+ * Hosts an {@link EmojiconsFragment} for the tests.
+ */
+public class EmojiconsTestActivity extends FragmentActivity implements
+        EmojiconsFragment.OnEmojiconBackspaceClickedListener, EmojiconGridFragment.OnEmojiconClickedListener {
+    @Override
+    public void onEmojiconBackspaceClicked(View v) {
+    }
+
+    @Override
+    public void onEmojiconClicked(Emojicon emojicon) {
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.text.DynamicLayout;
+import android.text.Layout;
+import android.text.SpannableString;
+import android.text.TextPaint;
+import android.text.style.DynamicDrawableSpan;
+import android.util.Log;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Times converting a single paragraph of {@link #LENGTH} chars laid out by a DynamicLayout, chunk by
+ * chunk as EmojiconTextView does progressively: with every span reflowing the paragraph, and with the
+ * chunks batched by {@link SpanBatch}. The times are logged under the {@value #TAG} tag.
+ */
+@RunWith(AndroidJUnit4.class)
+public class SpanBatchBenchmark {
+    private static final String TAG = "EmojiconBenchmark";
+
+    private static final int LENGTH = 50000;
+    private static final int CHUNK_LENGTH = 1024;
+    private static final int CHUNKS_PER_FRAME = 4;
+    private static final int WIDTH = 1080;
+    private static final int SIZE = 32;
+
+    private static final String[] WORDS = {
+            "hey", "are", "we", "still", "on", "for", "tonight", "?", "yes", "see", "you", "at", "8", "lol",
+            "\ud83d\ude00", "\ud83d\ude02", "\u2764\ufe0f", "\ud83d\udc4d\ud83c\udffd", "1\u20e3",
+    };
+
+    @Test
+    public void longParagraph() {
+        Context context = InstrumentationRegistry.getTargetContext();
+        String string = newText(new Random(1));
+        TextPaint paint = new TextPaint(TextPaint.ANTI_ALIAS_FLAG);
+        paint.setTextSize(SIZE);
+
+        SpannableString unbatched = new SpannableString(string);
+        Layout unbatchedLayout = new DynamicLayout(unbatched, paint, WIDTH, Layout.Alignment.ALIGN_NORMAL, 1, 0, true);
+        long start = System.nanoTime();
+        for (int next = 0; next < string.length(); next += CHUNK_LENGTH) {
+            convert(context, unbatched, next, null);
+        }
+        long unbatchedTime = System.nanoTime() - start;
+
+        SpannableString batched = new SpannableString(string);
+        Layout batchedLayout = new DynamicLayout(batched, paint, WIDTH, Layout.Alignment.ALIGN_NORMAL, 1, 0, true);
+        SpanBatch batch = new SpanBatch();
+        start = System.nanoTime();
+        for (int next = 0; next < string.length(); ) {
+            batch.begin(batched);
+            for (int i = 0; i < CHUNKS_PER_FRAME && next < string.length(); i++, next += CHUNK_LENGTH) {
+                convert(context, batched, next, batch);
+            }
+            batch.end();
+        }
+        long batchedTime = System.nanoTime() - start;
+
+        Log.i(TAG, String.format("%d chars, %d emojicons in one paragraph: %d ms unbatched, %d ms batched",
+                string.length(), batched.getSpans(0, batched.length(), EmojiconSpan.class).length,
+                unbatchedTime / 1000000, batchedTime / 1000000));
+        assertEquals(unbatchedLayout.getLineCount(), batchedLayout.getLineCount());
+        for (int line = 0; line < unbatchedLayout.getLineCount(); line++) {
+            assertEquals(unbatchedLayout.getLineStart(line), batchedLayout.getLineStart(line));
+            assertEquals(unbatchedLayout.getLineBottom(line), batchedLayout.getLineBottom(line));
+        }
+        assertTrue("batching the spans is slower than reflowing every span", batchedTime < unbatchedTime);
+    }
+
+    private static void convert(Context context, SpannableString text, int start, SpanBatch batch) {
+        int length = Math.min(CHUNK_LENGTH, text.length() - start);
+        long range = EmojiconHandler.updateEmojis(context, text, SIZE, DynamicDrawableSpan.ALIGN_BASELINE, SIZE,
+                start, length, 0, text.length());
+        if (batch != null) {
+            batch.changed((int) (range >>> 32), (int) range);
+        }
+    }
+
+    private static String newText(Random random) {
+        StringBuilder text = new StringBuilder(LENGTH + 16);
+        while (text.length() < LENGTH) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -16,58 +16,155 @@
 
 package io.github.rockerhieu.emojicon;
 
-import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.ArrayAdapter;
 
 import io.github.rockerhieu.emojicon.emoji.Emojicon;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Hieu Rocker (rockerhieu@gmail.com)
  */
-class EmojiconAdapter extends ArrayAdapter<Emojicon> {
+class EmojiconAdapter extends RecyclerView.Adapter<EmojiconAdapter.ViewHolder> {
+    static final int VIEW_TYPE_EMOJICON = 0;
+
+    /**
+     * Cells kept by a shared pool, about two pages worth.
+     */
+    private static final int MAX_RECYCLED_VIEWS = 128;
+
+    /**
+     * Stable ids by emoji, so that the same emoji keeps its id in every page and across data changes.
+     */
+    private static final Map<String, Long> sIds = new HashMap<>();
+
+    private List<Emojicon> mData;
     private boolean mUseSystemDefault = false;
+    private EmojiconGridFragment.OnEmojiconClickedListener mOnEmojiconClickedListener;
 
-    public EmojiconAdapter(Context context, List<Emojicon> data) {
-        super(context, R.layout.emojicon_item, data);
-        mUseSystemDefault = false;
+    public EmojiconAdapter(List<Emojicon> data) {
+        this(data, false);
     }
 
-    public EmojiconAdapter(Context context, List<Emojicon> data, boolean useSystemDefault) {
-        super(context, R.layout.emojicon_item, data);
+    public EmojiconAdapter(List<Emojicon> data, boolean useSystemDefault) {
+        mData = data;
         mUseSystemDefault = useSystemDefault;
+        setHasStableIds(true);
     }
 
-    public EmojiconAdapter(Context context, Emojicon[] data) {
-        super(context, R.layout.emojicon_item, data);
-        mUseSystemDefault = false;
+    public EmojiconAdapter(Emojicon[] data) {
+        this(Arrays.asList(data), false);
     }
 
-    public EmojiconAdapter(Context context, Emojicon[] data, boolean useSystemDefault) {
-        super(context, R.layout.emojicon_item, data);
-        mUseSystemDefault = useSystemDefault;
+    public EmojiconAdapter(Emojicon[] data, boolean useSystemDefault) {
+        this(Arrays.asList(data), useSystemDefault);
+    }
+
+    /**
+     * A pool to share between the grids of all pages, so that switching pages reuses the cells
+     * instead of inflating new ones.
+     */
+    static RecyclerView.RecycledViewPool newRecycledViewPool() {
+        RecyclerView.RecycledViewPool pool = new RecyclerView.RecycledViewPool();
+        pool.setMaxRecycledViews(VIEW_TYPE_EMOJICON, MAX_RECYCLED_VIEWS);
+        return pool;
+    }
+
+    public void setUseSystemDefault(boolean useSystemDefault) {
+        if (mUseSystemDefault != useSystemDefault) {
+            mUseSystemDefault = useSystemDefault;
+            notifyDataSetChanged();
+        }
+    }
+
+    /**
+     * Replace the emojicons shown, e.g. with a new snapshot of a list that changes.
+     */
+    void setData(List<Emojicon> data) {
+        mData = data;
+        notifyDataSetChanged();
+    }
+
+    public void setOnEmojiconClickedListener(EmojiconGridFragment.OnEmojiconClickedListener listener) {
+        mOnEmojiconClickedListener = listener;
+    }
+
+    public Emojicon getItem(int position) {
+        return mData.get(position);
     }
 
     @Override
-    public View getView(int position, View convertView, ViewGroup parent) {
-        View v = convertView;
-        if (v == null) {
-            v = View.inflate(getContext(), R.layout.emojicon_item, null);
-            ViewHolder holder = new ViewHolder();
-            holder.icon = (EmojiconTextView) v.findViewById(R.id.emojicon_icon);
-            holder.icon.setUseSystemDefault(mUseSystemDefault);
-            v.setTag(holder);
+    public int getItemCount() {
+        return mData.size();
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        return VIEW_TYPE_EMOJICON;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return getStableId(mData.get(position));
+    }
+
+    /**
+     * @return an id of the given emojicon, non negative and the same for every adapter
+     */
+    static long getStableId(Emojicon emojicon) {
+        String emoji = emojicon.getEmoji();
+        Long id = sIds.get(emoji);
+        if (id == null) {
+            id = (long) sIds.size();
+            sIds.put(emoji, id);
         }
-        Emojicon emoji = getItem(position);
-        ViewHolder holder = (ViewHolder) v.getTag();
-        holder.icon.setText(emoji.getEmoji());
-        return v;
+        return id;
+    }
+
+    @Override
+    public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+        return ViewHolder.create(parent);
+    }
+
+    @Override
+    public void onBindViewHolder(ViewHolder holder, int position) {
+        holder.bind(mData.get(position), mUseSystemDefault, mOnEmojiconClickedListener);
     }
 
-    static class ViewHolder {
-        EmojiconTextView icon;
+    static class ViewHolder extends RecyclerView.ViewHolder implements View.OnClickListener {
+        final EmojiconCellView icon;
+        Emojicon emojicon;
+        EmojiconGridFragment.OnEmojiconClickedListener listener;
+
+        ViewHolder(View itemView) {
+            super(itemView);
+            icon = (EmojiconCellView) itemView;
+            itemView.setOnClickListener(this);
+        }
+
+        static ViewHolder create(ViewGroup parent) {
+            return new ViewHolder(LayoutInflater.from(parent.getContext()).inflate(R.layout.emojicon_item, parent, false));
+        }
+
+        void bind(Emojicon emojicon, boolean useSystemDefault, EmojiconGridFragment.OnEmojiconClickedListener listener) {
+            // the cell may come from the pool of another page, with another listener
+            this.emojicon = emojicon;
+            this.listener = listener;
+            icon.setUseSystemDefault(useSystemDefault);
+            icon.setEmojicon(emojicon);
+        }
+
+        @Override
+        public void onClick(View v) {
+            if (getAdapterPosition() != RecyclerView.NO_POSITION && listener != null) {
+                listener.onEmojiconClicked(emojicon);
+            }
+        }
     }
-}
\ No newline at end of file
+}
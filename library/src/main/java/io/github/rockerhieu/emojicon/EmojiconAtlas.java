@@ -0,0 +1,203 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Rect;
+import android.support.v4.util.LruCache;
+import android.util.SparseIntArray;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Sprite sheets generated by the generateEmojiconAtlas task, and the position of every emojicon in
+ * them. A sheet is decoded in the background the first time one of its emojicons is drawn, see
+ * {@link #requestSheet(int)}, and at most {@link #MAX_DECODED_SHEETS} sheets are kept decoded.
+ */
+final class EmojiconAtlas {
+    private static final Object LOCK = new Object();
+    private static volatile EmojiconAtlas sInstance;
+
+    private static final int RECORD_SIZE = 10;
+
+    /**
+     * A sheet is about 2.4MB once decoded.
+     */
+    private static final int MAX_DECODED_SHEETS = 2;
+
+    private final Context mContext;
+    private final SparseIntArray mEntries;
+    private final byte[] mIndex;
+
+    /**
+     * The decoded sheets, read without locking when drawing. Only the sheets of {@link #mDecoded} are set.
+     */
+    private final AtomicReferenceArray<Bitmap> mSheets;
+
+    /**
+     * The decoded sheets by recency of their requests, clearing {@link #mSheets} on eviction.
+     */
+    private final LruCache<Integer, Bitmap> mDecoded;
+
+    /**
+     * 1 for the sheets queued for decoding, and for the ones that couldn't be decoded.
+     */
+    private final AtomicIntegerArray mRequested;
+
+    /**
+     * Serializes the decodes, so that a sheet is decoded once.
+     */
+    private final Object mDecodeLock = new Object();
+
+    private EmojiconAtlas(Context context, byte[] index, int count) {
+        mContext = context;
+        mIndex = index;
+        mEntries = new SparseIntArray(count);
+        for (int i = 0; i < count; i++) {
+            mEntries.put(EmojiconDrawables.RESOURCES[i], i);
+        }
+        mSheets = new AtomicReferenceArray<>(EmojiconAtlasSheets.RESOURCES.length);
+        mRequested = new AtomicIntegerArray(EmojiconAtlasSheets.RESOURCES.length);
+        mDecoded = new LruCache<Integer, Bitmap>(MAX_DECODED_SHEETS) {
+            @Override
+            protected void entryRemoved(boolean evicted, Integer key, Bitmap oldValue, Bitmap newValue) {
+                mSheets.compareAndSet(key, oldValue, null);
+            }
+        };
+    }
+
+    static EmojiconAtlas getInstance(Context context) {
+        EmojiconAtlas atlas = sInstance;
+        if (atlas == null) {
+            synchronized (LOCK) {
+                atlas = sInstance;
+                if (atlas == null) {
+                    atlas = load(context.getApplicationContext());
+                    sInstance = atlas;
+                }
+            }
+        }
+        return atlas;
+    }
+
+    private static EmojiconAtlas load(Context context) {
+        if (EmojiconAtlasSheets.RESOURCES.length == 0) {
+            return new EmojiconAtlas(context, new byte[0], 0);
+        }
+        try {
+            return new EmojiconAtlas(context, EmojiconHandler.readRawResource(context, R.raw.emojicon_atlas),
+                    EmojiconDrawables.RESOURCES.length);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the emojicon atlas", e);
+        }
+    }
+
+    /**
+     * Release the decoded sheets, they are decoded again when next drawn.
+     */
+    static void evictAll() {
+        EmojiconAtlas atlas = sInstance;
+        if (atlas != null) {
+            atlas.mDecoded.evictAll();
+        }
+    }
+
+    /**
+     * @return whether the library was built with the sprite sheets
+     */
+    boolean isAvailable() {
+        return mSheets.length() > 0;
+    }
+
+    /**
+     * @return the entry of the given drawable, or -1 if it isn't in the atlas
+     */
+    int getEntry(int resourceId) {
+        return mEntries.get(resourceId, -1);
+    }
+
+    /**
+     * Fill {@code bounds} with the bounds of the given entry in its sheet.
+     */
+    void getBounds(int entry, Rect bounds) {
+        int position = entry * RECORD_SIZE;
+        int left = readShort(position + 2);
+        int top = readShort(position + 4);
+        bounds.set(left, top, left + readShort(position + 6), top + readShort(position + 8));
+    }
+
+    /**
+     * @return the sheet of the given entry if it is decoded, or null. Doesn't lock, for drawing.
+     */
+    Bitmap peekSheet(int entry) {
+        return mSheets.get(getSheetIndex(entry));
+    }
+
+    /**
+     * Decode the sheet of the given entry on the background thread of {@link EmojiconPrefetcher}, unless
+     * it is already queued. For a draw that found no sheet with {@link #peekSheet(int)}.
+     */
+    void requestSheet(int entry) {
+        if (mRequested.compareAndSet(getSheetIndex(entry), 0, 1)) {
+            EmojiconPrefetcher.prefetchSheet(this, entry);
+        }
+    }
+
+    /**
+     * Decode the sheet of the given entry if needed, on the calling thread. Not for the draw path.
+     *
+     * @return the decoded sheet of the given entry, or null if it can't be decoded
+     */
+    Bitmap getSheet(int entry) {
+        int sheet = getSheetIndex(entry);
+        Bitmap bitmap = mSheets.get(sheet);
+        if (bitmap != null) {
+            // keeps it the most recently used
+            mDecoded.get(sheet);
+            mRequested.set(sheet, 0);
+            return bitmap;
+        }
+        synchronized (mDecodeLock) {
+            bitmap = mSheets.get(sheet);
+            if (bitmap == null) {
+                BitmapFactory.Options options = new BitmapFactory.Options();
+                options.inScaled = false;
+                bitmap = BitmapFactory.decodeResource(mContext.getResources(), EmojiconAtlasSheets.RESOURCES[sheet], options);
+                if (bitmap == null) {
+                    // not requested again
+                    mRequested.set(sheet, 1);
+                    return null;
+                }
+                mSheets.set(sheet, bitmap);
+                mDecoded.put(sheet, bitmap);
+            }
+        }
+        mRequested.set(sheet, 0);
+        return bitmap;
+    }
+
+    private int getSheetIndex(int entry) {
+        return readShort(entry * RECORD_SIZE);
+    }
+
+    private int readShort(int position) {
+        return ((mIndex[position] & 0xff) << 8) | (mIndex[position + 1] & 0xff);
+    }
+}
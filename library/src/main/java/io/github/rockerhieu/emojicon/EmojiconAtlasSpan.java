@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+
+/**
+ * {@link EmojiconSpan} drawing its emojicon straight from a sprite sheet of {@link EmojiconAtlas}.
+ */
+class EmojiconAtlasSpan extends EmojiconSpan {
+    private static final Paint PAINT = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    private final EmojiconAtlas mAtlas;
+
+    private final int mEntry;
+
+    private final Rect mSource = new Rect();
+
+    private final RectF mDestination = new RectF();
+
+    private Drawable mDrawable;
+
+    public EmojiconAtlasSpan(Context context, EmojiconAtlas atlas, int entry, int resourceId, int size, int alignment, int textSize) {
+        super(context, resourceId, size, alignment, textSize);
+        mAtlas = atlas;
+        mEntry = entry;
+        atlas.getBounds(entry, mSource);
+        mWidth = mSize * mSource.width() / mSource.height();
+    }
+
+    @Override
+    void prepare() {
+        mAtlas.getSheet(mEntry);
+    }
+
+    @Override
+    public Drawable getDrawable() {
+        if (mDrawable == null) {
+            Bitmap sheet = mAtlas.peekSheet(mEntry);
+            if (sheet == null) {
+                mAtlas.requestSheet(mEntry);
+                return super.getDrawable();
+            }
+            Bitmap bitmap = Bitmap.createBitmap(sheet, mSource.left, mSource.top, mSource.width(), mSource.height());
+            mDrawable = new BitmapDrawable(mContext.getResources(), bitmap);
+            mDrawable.setBounds(0, mTop, mWidth, mTop + mHeight);
+        }
+        return mDrawable;
+    }
+
+    @Override
+    public int getSize(Paint paint, CharSequence text, int start, int end, Paint.FontMetricsInt fm) {
+        if (fm != null) {
+            fm.ascent = -(mTop + mHeight);
+            fm.descent = 0;
+            fm.top = fm.ascent;
+            fm.bottom = 0;
+        }
+        return mWidth;
+    }
+
+    @Override
+    public void draw(Canvas canvas, CharSequence text, int start, int end, float x, int top, int y, int bottom, Paint paint) {
+        Bitmap sheet = mAtlas.peekSheet(mEntry);
+        if (sheet == null) {
+            // decoded in the background, the emojicon is drawn on its own until then
+            mAtlas.requestSheet(mEntry);
+            super.draw(canvas, text, start, end, x, top, y, bottom, paint);
+            return;
+        }
+        int transY = getTranslationY(top, bottom);
+        mDestination.set(x, transY, x + mWidth, transY + mHeight);
+        canvas.drawBitmap(sheet, mSource, mDestination, PAINT);
+    }
+}
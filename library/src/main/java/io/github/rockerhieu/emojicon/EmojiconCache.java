@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.support.v4.util.LruCache;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide LRU cache of the emoji bitmaps, decoded and scaled once for each (resource, size) pair
+ * and shared by all the {@link EmojiconSpan}s showing that emoji. The bitmaps are immutable.
+ */
+public final class EmojiconCache {
+    private static final Object LOCK = new Object();
+    private static int sMaxSize = (int) Math.min(Runtime.getRuntime().maxMemory() / 32, 8 * 1024 * 1024);
+    private static LruCache<Long, Bitmap> sCache;
+    private static final AtomicInteger sHitCount = new AtomicInteger();
+    private static final AtomicInteger sMissCount = new AtomicInteger();
+
+    private EmojiconCache() {
+    }
+
+    /**
+     * Set the memory budget of the cache, in bytes. Defaults to 1/32 of the heap, at most 8MB.
+     */
+    public static void setMaxSize(int bytes) {
+        synchronized (LOCK) {
+            sMaxSize = bytes;
+            if (sCache != null) {
+                LruCache<Long, Bitmap> cache = newCache(bytes);
+                // keep the most recently used bitmaps that still fit
+                for (Map.Entry<Long, Bitmap> entry : sCache.snapshot().entrySet()) {
+                    cache.put(entry.getKey(), entry.getValue());
+                }
+                sCache = cache;
+            }
+        }
+    }
+
+    /**
+     * Drop all the cached bitmaps and the decoded atlas sheets, e.g. from {@code onTrimMemory()}.
+     * Bitmaps still used by a span are released once the span is.
+     */
+    public static void evictAll() {
+        synchronized (LOCK) {
+            if (sCache != null) {
+                sCache.evictAll();
+            }
+        }
+        EmojiconAtlas.evictAll();
+    }
+
+    /**
+     * @return the number of lookups that found their bitmap in the cache
+     */
+    public static int getHitCount() {
+        return sHitCount.get();
+    }
+
+    /**
+     * @return the number of lookups that had to decode their bitmap
+     */
+    public static int getMissCount() {
+        return sMissCount.get();
+    }
+
+    /**
+     * @return the emoji drawable {@code resourceId} scaled to a height of {@code size} pixels, or null
+     * if it can't be decoded
+     */
+    static Bitmap getBitmap(Context context, int resourceId, int size) {
+        Long key = ((long) resourceId << 32) | (size & 0xffffffffL);
+        LruCache<Long, Bitmap> cache;
+        synchronized (LOCK) {
+            if (sCache == null) {
+                sCache = newCache(sMaxSize);
+            }
+            cache = sCache;
+        }
+
+        Bitmap bitmap = cache.get(key);
+        if (bitmap != null) {
+            sHitCount.incrementAndGet();
+        } else {
+            sMissCount.incrementAndGet();
+            bitmap = decode(context, resourceId, size);
+            if (bitmap != null) {
+                cache.put(key, bitmap);
+            }
+        }
+        return bitmap;
+    }
+
+    private static Bitmap decode(Context context, int resourceId, int size) {
+        Bitmap bitmap = BitmapFactory.decodeResource(context.getResources(), resourceId);
+        if (bitmap == null || size <= 0) {
+            return bitmap;
+        }
+        int width = size * bitmap.getWidth() / bitmap.getHeight();
+        if (width == bitmap.getWidth() && size == bitmap.getHeight()) {
+            return bitmap;
+        }
+        Bitmap scaled = Bitmap.createScaledBitmap(bitmap, width, size, true);
+        if (scaled != bitmap) {
+            bitmap.recycle();
+        }
+        return scaled;
+    }
+
+    private static LruCache<Long, Bitmap> newCache(int maxSize) {
+        return new LruCache<Long, Bitmap>(maxSize) {
+            @Override
+            protected int sizeOf(Long key, Bitmap value) {
+                return value.getRowBytes() * value.getHeight();
+            }
+        };
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.text.TextPaint;
+import android.util.AttributeSet;
+import android.view.View;
+
+import io.github.rockerhieu.emojicon.emoji.Emojicon;
+
+/**
+ * A single emojicon, drawn straight from its bitmap or, with the system default emojis, from the font.
+ * Meant for the cells of the picker grids: unlike an {@link EmojiconTextView}, showing another emojicon
+ * doesn't parse any text, create any span or lay out anything.
+ */
+public class EmojiconCellView extends View {
+    private static final Paint BITMAP_PAINT = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    private final TextPaint mTextPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Rect mSource = new Rect();
+    private final RectF mDestination = new RectF();
+    private int mEmojiconSize;
+    private boolean mUseSystemDefault = false;
+    private Emojicon mEmojicon;
+    private int mResourceId;
+    private EmojiconAtlas mAtlas;
+    private int mAtlasEntry = -1;
+    private Bitmap mBitmap;
+    private boolean mBitmapLoaded;
+    private boolean mCachedBitmapLoaded;
+
+    public EmojiconCellView(Context context) {
+        this(context, null);
+    }
+
+    public EmojiconCellView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.Emojicon);
+        mEmojiconSize = (int) a.getDimension(R.styleable.Emojicon_emojiconSize,
+                30 * context.getResources().getDisplayMetrics().density);
+        mUseSystemDefault = a.getBoolean(R.styleable.Emojicon_emojiconUseSystemDefault, false);
+        a.recycle();
+        mTextPaint.setTextAlign(Paint.Align.CENTER);
+        mTextPaint.setTextSize(mEmojiconSize);
+    }
+
+    public int getEmojiconSize() {
+        return mEmojiconSize;
+    }
+
+    /**
+     * Set the size of the emojicon, in pixels.
+     */
+    public void setEmojiconSize(int pixels) {
+        if (mEmojiconSize != pixels) {
+            mEmojiconSize = pixels;
+            mTextPaint.setTextSize(pixels);
+            mBitmapLoaded = false;
+            mCachedBitmapLoaded = false;
+            mBitmap = null;
+            requestLayout();
+            invalidate();
+        }
+    }
+
+    /**
+     * Set whether to draw the emojicon with the system font instead of the bitmap of the library.
+     */
+    public void setUseSystemDefault(boolean useSystemDefault) {
+        if (mUseSystemDefault != useSystemDefault) {
+            mUseSystemDefault = useSystemDefault;
+            invalidate();
+        }
+    }
+
+    public Emojicon getEmojicon() {
+        return mEmojicon;
+    }
+
+    public void setEmojicon(Emojicon emojicon) {
+        if (emojicon == mEmojicon) {
+            return;
+        }
+        mEmojicon = emojicon;
+        mResourceId = 0;
+        mAtlasEntry = -1;
+        mBitmap = null;
+        mBitmapLoaded = false;
+        mCachedBitmapLoaded = false;
+        if (emojicon != null) {
+            mResourceId = emojicon.getIcon() != 0 ? emojicon.getIcon()
+                    : EmojiconHandler.getEmojiconResource(getContext(), emojicon.getEmoji());
+        }
+        // same size for every emojicon, no need to measure again
+        invalidate();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        setMeasuredDimension(
+                resolveSize(mEmojiconSize + getPaddingLeft() + getPaddingRight(), widthMeasureSpec),
+                resolveSize(mEmojiconSize + getPaddingTop() + getPaddingBottom(), heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (mEmojicon == null) {
+            return;
+        }
+        float centerX = getPaddingLeft() + (getWidth() - getPaddingLeft() - getPaddingRight()) / 2f;
+        float centerY = getPaddingTop() + (getHeight() - getPaddingTop() - getPaddingBottom()) / 2f;
+        if (!mUseSystemDefault && mResourceId != 0) {
+            loadBitmap();
+            if (mAtlasEntry >= 0) {
+                Bitmap sheet = mAtlas.peekSheet(mAtlasEntry);
+                if (sheet != null) {
+                    float width = (float) mEmojiconSize * mSource.width() / mSource.height();
+                    mDestination.set(centerX - width / 2, centerY - mEmojiconSize / 2f,
+                            centerX + width / 2, centerY + mEmojiconSize / 2f);
+                    canvas.drawBitmap(sheet, mSource, mDestination, BITMAP_PAINT);
+                    return;
+                }
+                // decoded in the background, the emojicon is drawn on its own until then
+                mAtlas.requestSheet(mAtlasEntry);
+                loadCachedBitmap();
+            }
+            if (mBitmap != null) {
+                canvas.drawBitmap(mBitmap, centerX - mBitmap.getWidth() / 2f, centerY - mBitmap.getHeight() / 2f, null);
+                return;
+            }
+        }
+        String emoji = mEmojicon.getEmoji();
+        if (emoji != null) {
+            canvas.drawText(emoji, centerX, centerY - (mTextPaint.descent() + mTextPaint.ascent()) / 2, mTextPaint);
+        }
+    }
+
+    /**
+     * Look the bitmap up once per emojicon, so that drawing again never allocates.
+     */
+    private void loadBitmap() {
+        if (mBitmapLoaded) {
+            return;
+        }
+        mBitmapLoaded = true;
+        if (EmojiconHandler.isUsingAtlas(getContext())) {
+            mAtlas = EmojiconAtlas.getInstance(getContext());
+            mAtlasEntry = mAtlas.getEntry(mResourceId);
+            if (mAtlasEntry >= 0) {
+                mAtlas.getBounds(mAtlasEntry, mSource);
+                return;
+            }
+        }
+        loadCachedBitmap();
+    }
+
+    private void loadCachedBitmap() {
+        if (mCachedBitmapLoaded) {
+            return;
+        }
+        mCachedBitmapLoaded = true;
+        try {
+            mBitmap = EmojiconCache.getBitmap(getContext(), mResourceId, mEmojiconSize);
+        } catch (Exception e) {
+            // draw the system glyph instead
+        }
+    }
+}
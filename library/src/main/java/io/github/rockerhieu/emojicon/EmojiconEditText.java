@@ -58,7 +58,7 @@ public class EmojiconEditText extends AppCompatEditText {
 
     @Override
     protected void onTextChanged(CharSequence text, int start, int lengthBefore, int lengthAfter) {
-        updateText();
+        EmojiconHandler.updateEmojis(getContext(), getText(), mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, start, lengthAfter, mUseSystemDefault);
     }
 
     /**
@@ -20,11 +20,10 @@ import android.content.Context;
 import android.os.Bundle;
 import android.os.Parcelable;
 import android.support.v4.app.Fragment;
+import android.support.v7.widget.RecyclerView;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.AdapterView;
-import android.widget.GridView;
 
 import io.github.rockerhieu.emojicon.emoji.Emojicon;
 import io.github.rockerhieu.emojicon.emoji.People;
@@ -32,15 +31,31 @@ import io.github.rockerhieu.emojicon.emoji.People;
 /**
  * @author Hieu Rocker (rockerhieu@gmail.com)
  */
-public class EmojiconGridFragment extends Fragment implements AdapterView.OnItemClickListener {
+public class EmojiconGridFragment extends Fragment {
     private OnEmojiconClickedListener mOnEmojiconClickedListener;
     private EmojiconRecents mRecents;
+    private RecyclerView.RecycledViewPool mRecycledViewPool;
     private Emojicon[] mEmojicons;
     private
     @Emojicon.Type
     int mEmojiconType;
     private boolean mUseSystemDefault = false;
 
+    /**
+     * Listener of the grid cells.
+     */
+    final OnEmojiconClickedListener mOnItemClickedListener = new OnEmojiconClickedListener() {
+        @Override
+        public void onEmojiconClicked(Emojicon emojicon) {
+            if (mOnEmojiconClickedListener != null) {
+                mOnEmojiconClickedListener.onEmojiconClicked(emojicon);
+            }
+            if (mRecents != null) {
+                mRecents.addRecentEmoji(getActivity(), emojicon);
+            }
+        }
+    };
+
     private static final String ARG_USE_SYSTEM_DEFAULTS = "useSystemDefaults";
     private static final String ARG_EMOJICONS = "emojicons";
     private static final String ARG_EMOJICON_TYPE = "emojiconType";
@@ -73,7 +88,10 @@ public class EmojiconGridFragment extends Fragment implements AdapterView.OnItem
 
     @Override
     public void onViewCreated(View view, Bundle savedInstanceState) {
-        GridView gridView = (GridView) view.findViewById(R.id.Emoji_GridView);
+        EmojiconGridView gridView = (EmojiconGridView) view.findViewById(R.id.Emoji_GridView);
+        if (mRecycledViewPool != null) {
+            gridView.setRecycledViewPool(mRecycledViewPool);
+        }
         Bundle bundle = getArguments();
         if (bundle == null) {
             mEmojiconType = Emojicon.TYPE_UNDEFINED;
@@ -93,8 +111,8 @@ public class EmojiconGridFragment extends Fragment implements AdapterView.OnItem
             }
             mUseSystemDefault = bundle.getBoolean(ARG_USE_SYSTEM_DEFAULTS);
         }
-        gridView.setAdapter(new EmojiconAdapter(view.getContext(), mEmojicons, mUseSystemDefault));
-        gridView.setOnItemClickListener(this);
+        gridView.setEmojiData(Emojicon.TYPE_UNDEFINED, mEmojicons, mUseSystemDefault);
+        gridView.setOnEmojiconClickedListener(mOnItemClickedListener);
     }
 
     @Override
@@ -121,20 +139,21 @@ public class EmojiconGridFragment extends Fragment implements AdapterView.OnItem
         super.onDetach();
     }
 
-    @Override
-    public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
-        if (mOnEmojiconClickedListener != null) {
-            mOnEmojiconClickedListener.onEmojiconClicked((Emojicon) parent.getItemAtPosition(position));
-        }
-        if (mRecents != null) {
-            mRecents.addRecentEmoji(view.getContext(), ((Emojicon) parent.getItemAtPosition(position)));
-        }
-    }
-
     private void setRecents(EmojiconRecents recents) {
         mRecents = recents;
     }
 
+    /**
+     * Share the cells with the grids of the other pages.
+     */
+    void setRecycledViewPool(RecyclerView.RecycledViewPool pool) {
+        mRecycledViewPool = pool;
+    }
+
+    RecyclerView.RecycledViewPool getRecycledViewPool() {
+        return mRecycledViewPool;
+    }
+
     public interface OnEmojiconClickedListener {
         void onEmojiconClicked(Emojicon emojicon);
     }
@@ -17,12 +17,12 @@
 package io.github.rockerhieu.emojicon;
 
 import android.content.Context;
+import android.content.res.TypedArray;
 import android.os.Parcel;
 import android.os.Parcelable;
+import android.support.v7.widget.GridLayoutManager;
+import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
-import android.view.View;
-import android.widget.AdapterView;
-import android.widget.GridView;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,21 +33,40 @@ import io.github.rockerhieu.emojicon.emoji.Emojicon;
 /**
  * Created by rockerhieu on 8/10/16.
  */
-public class EmojiconGridView extends GridView implements AdapterView.OnItemClickListener {
+public class EmojiconGridView extends RecyclerView {
+    /**
+     * Rows laid out ahead of the scroll direction, so that their cells are bound before they show.
+     */
+    private static final int PREFETCH_ROWS = 2;
+
     @Emojicon.Type
     private int mType;
     private Emojicon[] mData;
     private boolean mUseSystemDefaults;
-    private EmojiconGridFragment.OnEmojiconClickedListener onEmojiconClickedListener;
     private EmojiconAdapter mEmojiAdapter;
     private List<Emojicon> mEmojiList;
+    private GridLayoutManager mLayoutManager;
+    private int mColumnWidth;
 
     public EmojiconGridView(Context context, AttributeSet attrs) {
         super(context, attrs, R.attr.emojiconGridViewStyle);
-        setOnItemClickListener(this);
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.EmojiconGridView,
+                R.attr.emojiconGridViewStyle, R.style.EmojiconGridView);
+        mColumnWidth = a.getDimensionPixelSize(R.styleable.EmojiconGridView_android_columnWidth, 0);
+        a.recycle();
+
         setSaveEnabled(true);
+        setHasFixedSize(true);
+        mLayoutManager = new GridLayoutManager(context, 1) {
+            @Override
+            protected int getExtraLayoutSpace(State state) {
+                // RecyclerView 24 has no item prefetch: lay out the next rows while scrolling
+                return getScrollState() == SCROLL_STATE_IDLE ? 0 : mColumnWidth * PREFETCH_ROWS;
+            }
+        };
+        setLayoutManager(mLayoutManager);
         mEmojiList = new ArrayList<>();
-        mEmojiAdapter = new EmojiconAdapter(context, mEmojiList);
+        mEmojiAdapter = new EmojiconAdapter(mEmojiList);
         setAdapter(mEmojiAdapter);
     }
 
@@ -55,15 +74,28 @@ public class EmojiconGridView extends GridView implements AdapterView.OnItemClic
         this(context, null);
     }
 
+    @Override
+    protected void onMeasure(int widthSpec, int heightSpec) {
+        super.onMeasure(widthSpec, heightSpec);
+        if (mColumnWidth > 0) {
+            int spanCount = Math.max(1, (getMeasuredWidth() - getPaddingLeft() - getPaddingRight()) / mColumnWidth);
+            if (mLayoutManager.getSpanCount() != spanCount) {
+                mLayoutManager.setSpanCount(spanCount);
+                // keep a row of each side bound when scrolling back and forth
+                setItemViewCacheSize(spanCount * 2);
+            }
+        }
+    }
+
     @Override
     public Parcelable onSaveInstanceState() {
-        Parcelable superState = super.onSaveInstanceState();
-        SavedState ss = new SavedState(superState);
+        super.onSaveInstanceState();
+        // the state of RecyclerView can't be read back with the class loader of BaseSavedState
+        SavedState ss = new SavedState(BaseSavedState.EMPTY_STATE);
         ss.data = mData;
         ss.type = mType;
         ss.useSystemDefaults = mUseSystemDefaults;
-        ss.scrollX = getScrollX();
-        ss.scrollY = getScrollY();
+        ss.position = mLayoutManager.findFirstVisibleItemPosition();
         return ss;
     }
 
@@ -79,9 +111,10 @@ public class EmojiconGridView extends GridView implements AdapterView.OnItemClic
         mType = ss.type;
         mData = ss.data;
         mUseSystemDefaults = ss.useSystemDefaults;
-        setScrollX(ss.scrollX);
-        setScrollY(ss.scrollY);
         setEmojiData(mType, mData, mUseSystemDefaults);
+        if (ss.position != NO_POSITION) {
+            scrollToPosition(ss.position);
+        }
     }
 
     public void setEmojiData(@Emojicon.Type int type, Emojicon[] data, boolean useSystemDefaults) {
@@ -98,18 +131,12 @@ public class EmojiconGridView extends GridView implements AdapterView.OnItemClic
             mEmojiList.clear();
             Collections.addAll(mEmojiList, this.mData);
         }
+        mEmojiAdapter.setUseSystemDefault(useSystemDefaults);
         mEmojiAdapter.notifyDataSetChanged();
     }
 
     public void setOnEmojiconClickedListener(EmojiconGridFragment.OnEmojiconClickedListener onEmojiconClickedListener) {
-        this.onEmojiconClickedListener = onEmojiconClickedListener;
-    }
-
-    @Override
-    public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
-        if (onEmojiconClickedListener != null) {
-            onEmojiconClickedListener.onEmojiconClicked((Emojicon) parent.getItemAtPosition(position));
-        }
+        mEmojiAdapter.setOnEmojiconClickedListener(onEmojiconClickedListener);
     }
 
     public static class SavedState extends BaseSavedState {
@@ -117,8 +144,7 @@ public class EmojiconGridView extends GridView implements AdapterView.OnItemClic
         int type;
         Emojicon[] data;
         boolean useSystemDefaults;
-        int scrollX;
-        int scrollY;
+        int position;
 
         SavedState(Parcelable superState) {
             super(superState);
@@ -130,8 +156,7 @@ public class EmojiconGridView extends GridView implements AdapterView.OnItemClic
             this.type = in.readInt();
             this.data = (Emojicon[]) in.readParcelableArray(Emojicon.class.getClassLoader());
             this.useSystemDefaults = in.readInt() != 0;
-            this.scrollX = in.readInt();
-            this.scrollY = in.readInt();
+            this.position = in.readInt();
         }
 
         @Override
@@ -140,8 +165,7 @@ public class EmojiconGridView extends GridView implements AdapterView.OnItemClic
             out.writeInt(this.type);
             out.writeParcelableArray(data, flags);
             out.writeInt(this.useSystemDefaults ? 1 : 0);
-            out.writeInt(this.scrollX);
-            out.writeInt(this.scrollY);
+            out.writeInt(this.position);
         }
 
         //required field that makes Parcelables from a Parcel
@@ -56,7 +56,7 @@ public class EmojiconMultiAutoCompleteTextView extends AppCompatMultiAutoComplet
 
     @Override
     protected void onTextChanged(CharSequence text, int start, int lengthBefore, int lengthAfter) {
-        updateText();
+        EmojiconHandler.updateEmojis(getContext(), getText(), mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, start, lengthAfter, mUseSystemDefault);
     }
 
     /**
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.support.v7.widget.RecyclerView;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import io.github.rockerhieu.emojicon.emoji.Emojicon;
+
+import java.util.List;
+
+/**
+ * All the emojicons of a list of pages, each page after a header showing its icon. A page without
+ * emojicons has no header either.
+ */
+class EmojiconPanelAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+    static final int VIEW_TYPE_HEADER = 1;
+
+    private final EmojiconPage[] mPages;
+    private final Emojicon[][] mData;
+
+    /**
+     * Position of the header of each page, or of the next page's if it has no emojicons.
+     */
+    private final int[] mStarts;
+    private final int mItemCount;
+    private EmojiconGridFragment.OnEmojiconClickedListener mOnEmojiconClickedListener;
+
+    EmojiconPanelAdapter(List<EmojiconPage> pages) {
+        mPages = pages.toArray(new EmojiconPage[pages.size()]);
+        mData = new Emojicon[mPages.length][];
+        mStarts = new int[mPages.length];
+        int position = 0;
+        for (int i = 0; i < mPages.length; i++) {
+            EmojiconPage page = mPages[i];
+            mData[i] = page.getType() != Emojicon.TYPE_UNDEFINED ? Emojicon.getEmojicons(page.getType()) : page.getData();
+            if (mData[i] == null) {
+                mData[i] = new Emojicon[0];
+            }
+            mStarts[i] = position;
+            if (mData[i].length > 0) {
+                position += 1 + mData[i].length;
+            }
+        }
+        mItemCount = position;
+        setHasStableIds(true);
+    }
+
+    void setOnEmojiconClickedListener(EmojiconGridFragment.OnEmojiconClickedListener listener) {
+        mOnEmojiconClickedListener = listener;
+    }
+
+    int getPageCount() {
+        return mPages.length;
+    }
+
+    EmojiconPage getPage(int page) {
+        return mPages[page];
+    }
+
+    /**
+     * @return the position of the header of the given page
+     */
+    int getPagePosition(int page) {
+        return mStarts[page];
+    }
+
+    /**
+     * @return the page of the item at the given position
+     */
+    int getPageForPosition(int position) {
+        // the last page starting at or before position, skipping the empty pages sharing its start
+        int low = 0;
+        int high = mStarts.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (mStarts[middle] <= position) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    boolean isHeader(int position) {
+        return mStarts[getPageForPosition(position)] == position;
+    }
+
+    @Override
+    public int getItemCount() {
+        return mItemCount;
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        return isHeader(position) ? VIEW_TYPE_HEADER : EmojiconAdapter.VIEW_TYPE_EMOJICON;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        int page = getPageForPosition(position);
+        if (mStarts[page] == position) {
+            // negative, unlike the emojicon ids below, and never RecyclerView.NO_ID (-1)
+            return Long.MIN_VALUE + page;
+        }
+        // the same emojicon may be in several pages, e.g. the recents
+        return ((long) page << 32) | EmojiconAdapter.getStableId(mData[page][position - mStarts[page] - 1]);
+    }
+
+    @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+        if (viewType == VIEW_TYPE_HEADER) {
+            return new HeaderViewHolder(createHeaderView(parent));
+        }
+        return EmojiconAdapter.ViewHolder.create(parent);
+    }
+
+    @Override
+    public void onBindViewHolder(RecyclerView.ViewHolder holder, int position) {
+        int page = getPageForPosition(position);
+        if (holder instanceof HeaderViewHolder) {
+            bindHeaderView(holder.itemView, page);
+        } else {
+            ((EmojiconAdapter.ViewHolder) holder).bind(mData[page][position - mStarts[page] - 1],
+                    mPages[page].isUseSystemDefaults(), mOnEmojiconClickedListener);
+        }
+    }
+
+    static View createHeaderView(ViewGroup parent) {
+        return LayoutInflater.from(parent.getContext()).inflate(R.layout.emojicon_panel_header, parent, false);
+    }
+
+    void bindHeaderView(View view, int page) {
+        ((ImageView) view).setImageResource(mPages[page].getIcon());
+    }
+
+    static class HeaderViewHolder extends RecyclerView.ViewHolder {
+        HeaderViewHolder(View itemView) {
+            super(itemView);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.support.annotation.NonNull;
+import android.support.v7.widget.GridLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.util.AttributeSet;
+import android.view.View;
+
+import java.util.List;
+
+/**
+ * All the emojicons of a list of pages in a single scrolling grid, each page under a header that sticks
+ * to the top while its emojicons are shown. Unlike a {@link android.support.v4.view.ViewPager} of
+ * {@link EmojiconGridView}s, the whole panel is one view with one adapter, whatever the number of pages.
+ */
+public class EmojiconPanelView extends RecyclerView {
+    private static final int PREFETCH_ROWS = 2;
+
+    private final GridLayoutManager mLayoutManager;
+    private final int mColumnWidth;
+    private EmojiconPanelAdapter mAdapter;
+    private EmojiconGridFragment.OnEmojiconClickedListener mOnEmojiconClickedListener;
+    private OnPageChangedListener mOnPageChangedListener;
+    private int mCurrentPage = -1;
+    private final StickyHeaderDecoration mStickyHeaderDecoration = new StickyHeaderDecoration();
+
+    public EmojiconPanelView(Context context) {
+        this(context, null);
+    }
+
+    public EmojiconPanelView(Context context, AttributeSet attrs) {
+        super(context, attrs, R.attr.emojiconGridViewStyle);
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.EmojiconGridView,
+                R.attr.emojiconGridViewStyle, R.style.EmojiconGridView);
+        mColumnWidth = a.getDimensionPixelSize(R.styleable.EmojiconGridView_android_columnWidth, 0);
+        a.recycle();
+
+        setHasFixedSize(true);
+        mLayoutManager = new GridLayoutManager(context, 1) {
+            @Override
+            protected int getExtraLayoutSpace(State state) {
+                return getScrollState() == SCROLL_STATE_IDLE ? 0 : mColumnWidth * PREFETCH_ROWS;
+            }
+        };
+        mLayoutManager.setSpanSizeLookup(new GridLayoutManager.SpanSizeLookup() {
+            @Override
+            public int getSpanSize(int position) {
+                return mAdapter != null && mAdapter.isHeader(position) ? mLayoutManager.getSpanCount() : 1;
+            }
+        });
+        setLayoutManager(mLayoutManager);
+        addItemDecoration(mStickyHeaderDecoration);
+        addOnScrollListener(new OnScrollListener() {
+            @Override
+            public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+                updateCurrentPage();
+            }
+        });
+    }
+
+    public void setPages(@NonNull List<EmojiconPage> pages) {
+        mAdapter = new EmojiconPanelAdapter(pages);
+        mAdapter.setOnEmojiconClickedListener(mOnEmojiconClickedListener);
+        mCurrentPage = -1;
+        mStickyHeaderDecoration.mHeaderPage = -1;
+        setAdapter(mAdapter);
+    }
+
+    public void setOnEmojiconClickedListener(EmojiconGridFragment.OnEmojiconClickedListener listener) {
+        mOnEmojiconClickedListener = listener;
+        if (mAdapter != null) {
+            mAdapter.setOnEmojiconClickedListener(listener);
+        }
+    }
+
+    public void setOnPageChangedListener(OnPageChangedListener listener) {
+        mOnPageChangedListener = listener;
+    }
+
+    /**
+     * Jump to the header of the given page.
+     */
+    public void scrollToPage(int page) {
+        if (mAdapter == null || page < 0 || page >= mAdapter.getPageCount()) {
+            return;
+        }
+        mLayoutManager.scrollToPositionWithOffset(mAdapter.getPagePosition(page), 0);
+    }
+
+    /**
+     * @return the page at the top of the panel, or -1 before the first layout
+     */
+    public int getCurrentPage() {
+        return mCurrentPage;
+    }
+
+    @Override
+    protected void onMeasure(int widthSpec, int heightSpec) {
+        super.onMeasure(widthSpec, heightSpec);
+        if (mColumnWidth > 0) {
+            int spanCount = Math.max(1, (getMeasuredWidth() - getPaddingLeft() - getPaddingRight()) / mColumnWidth);
+            if (mLayoutManager.getSpanCount() != spanCount) {
+                mLayoutManager.setSpanCount(spanCount);
+                setItemViewCacheSize(spanCount * 2);
+            }
+        }
+    }
+
+    private void updateCurrentPage() {
+        int position = mLayoutManager.findFirstVisibleItemPosition();
+        if (mAdapter == null || position == NO_POSITION) {
+            return;
+        }
+        int page = mAdapter.getPageForPosition(position);
+        if (page != mCurrentPage) {
+            mCurrentPage = page;
+            if (mOnPageChangedListener != null) {
+                mOnPageChangedListener.onPageChanged(page);
+            }
+        }
+    }
+
+    public interface OnPageChangedListener {
+        void onPageChanged(int page);
+    }
+
+    /**
+     * Draws the header of the page at the top over the grid, pushed up by the header of the next page.
+     */
+    private class StickyHeaderDecoration extends ItemDecoration {
+        private View mHeader;
+        private int mHeaderPage = -1;
+
+        @Override
+        public void onDrawOver(Canvas c, RecyclerView parent, State state) {
+            if (mAdapter == null || getChildCount() == 0) {
+                return;
+            }
+            int position = getChildAdapterPosition(getChildAt(0));
+            if (position == NO_POSITION) {
+                return;
+            }
+            int page = mAdapter.getPageForPosition(position);
+            View header = getHeader(page);
+
+            int top = getPaddingTop();
+            for (int i = 0; i < getChildCount(); i++) {
+                View child = getChildAt(i);
+                int childPosition = getChildAdapterPosition(child);
+                if (childPosition > position && childPosition != NO_POSITION && mAdapter.isHeader(childPosition)) {
+                    top = Math.min(top, child.getTop() - header.getHeight());
+                    break;
+                }
+            }
+
+            int saveCount = c.save();
+            c.translate(getPaddingLeft(), top);
+            header.draw(c);
+            c.restoreToCount(saveCount);
+        }
+
+        private View getHeader(int page) {
+            if (mHeader == null) {
+                mHeader = EmojiconPanelAdapter.createHeaderView(EmojiconPanelView.this);
+            }
+            int width = getWidth() - getPaddingLeft() - getPaddingRight();
+            if (page != mHeaderPage || mHeader.getWidth() != width) {
+                mHeaderPage = page;
+                mAdapter.bindHeaderView(mHeader, page);
+                mHeader.measure(MeasureSpec.makeMeasureSpec(width, MeasureSpec.EXACTLY),
+                        MeasureSpec.makeMeasureSpec(mHeader.getLayoutParams().height, MeasureSpec.EXACTLY));
+                mHeader.layout(0, 0, mHeader.getMeasuredWidth(), mHeader.getMeasuredHeight());
+            }
+            return mHeader;
+        }
+    }
+}
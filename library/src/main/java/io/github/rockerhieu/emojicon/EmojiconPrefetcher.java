@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.os.Process;
+import android.support.v4.view.ViewPager;
+import android.view.View;
+import android.view.ViewGroup;
+
+import io.github.rockerhieu.emojicon.emoji.Emojicon;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes the bitmaps of the first screen of a page into {@link EmojiconCache} in the background, so that
+ * the page the user swipes to draws its first frame without decoding anything.
+ */
+final class EmojiconPrefetcher {
+    private static final Executor sExecutor = Executors.newSingleThreadExecutor();
+
+    private final Context mContext;
+
+    /**
+     * Incremented by each prefetch, so that a running one stops once it is superseded.
+     */
+    private final AtomicInteger mGeneration = new AtomicInteger();
+    private int mPage = -1;
+
+    EmojiconPrefetcher(Context context) {
+        mContext = context.getApplicationContext();
+    }
+
+    /**
+     * @return the page of the last prefetch, or -1
+     */
+    int getPage() {
+        return mPage;
+    }
+
+    /**
+     * Prefetch the page the user is swiping to, from {@code onPageScrolled()}.
+     *
+     * @return the page to prefetch, or -1 if there is none
+     */
+    static int getTargetPage(ViewPager pager, int position, float positionOffset) {
+        if (positionOffset <= 0) {
+            return -1;
+        }
+        // position is the left page: the target is whichever of the two isn't the current one
+        return position == pager.getCurrentItem() ? position + 1 : position;
+    }
+
+    /**
+     * Decode the bitmaps of the first cells of {@code data} at the size of the cells shown in {@code pager},
+     * as many as it shows. Does nothing before the first cell is laid out.
+     */
+    void prefetch(ViewPager pager, int page, final Emojicon[] data) {
+        mPage = page;
+        final int generation = mGeneration.incrementAndGet();
+        EmojiconCellView cell = findCell(pager);
+        if (cell == null || data == null) {
+            return;
+        }
+        final int size = cell.getEmojiconSize();
+        final int count = Math.min(data.length, ((ViewGroup) cell.getParent()).getChildCount());
+        sExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                boolean useAtlas = EmojiconHandler.isUsingAtlas(mContext);
+                for (int i = 0; i < count && mGeneration.get() == generation; i++) {
+                    Emojicon emojicon = data[i];
+                    int resourceId = emojicon.getIcon() != 0 ? emojicon.getIcon()
+                            : EmojiconHandler.getEmojiconResource(mContext, emojicon.getEmoji());
+                    if (resourceId == 0) {
+                        continue;
+                    }
+                    if (useAtlas) {
+                        EmojiconAtlas atlas = EmojiconAtlas.getInstance(mContext);
+                        int entry = atlas.getEntry(resourceId);
+                        if (entry >= 0) {
+                            atlas.getSheet(entry);
+                            continue;
+                        }
+                    }
+                    try {
+                        EmojiconCache.getBitmap(mContext, resourceId, size);
+                    } catch (Exception e) {
+                        // swallow, the cell will draw the system glyph
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Decode the sprite sheet of the given atlas entry in the background, see
+     * {@link EmojiconAtlas#requestSheet(int)}.
+     */
+    static void prefetchSheet(final EmojiconAtlas atlas, final int entry) {
+        sExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                atlas.getSheet(entry);
+            }
+        });
+    }
+
+    /**
+     * Stop the running prefetch, if any.
+     */
+    void cancel() {
+        mPage = -1;
+        mGeneration.incrementAndGet();
+    }
+
+    /**
+     * @return a cell of a grid of the given pager, or null if none is laid out yet
+     */
+    private static EmojiconCellView findCell(ViewPager pager) {
+        for (int i = 0; i < pager.getChildCount(); i++) {
+            View page = pager.getChildAt(i);
+            if (page instanceof ViewGroup && ((ViewGroup) page).getChildCount() > 0) {
+                View cell = ((ViewGroup) page).getChildAt(0);
+                if (cell instanceof EmojiconCellView) {
+                    return (EmojiconCellView) cell;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -19,14 +19,16 @@ package io.github.rockerhieu.emojicon;
 import android.content.Context;
 import android.os.Bundle;
 import android.view.View;
-import android.widget.GridView;
 
 import io.github.rockerhieu.emojicon.emoji.Emojicon;
 
+import java.util.Arrays;
+
 /**
  * @author Daniele Ricci
  */
-public class EmojiconRecentsGridFragment extends EmojiconGridFragment implements EmojiconRecents {
+public class EmojiconRecentsGridFragment extends EmojiconGridFragment implements EmojiconRecents,
+        EmojiconRecentsManager.OnRecentsChangedListener {
     private EmojiconAdapter mAdapter;
     private boolean mUseSystemDefault = false;
 
@@ -59,27 +61,39 @@ public class EmojiconRecentsGridFragment extends EmojiconGridFragment implements
         EmojiconRecentsManager recents = EmojiconRecentsManager
                 .getInstance(view.getContext());
 
-        mAdapter = new EmojiconAdapter(view.getContext(), recents, mUseSystemDefault);
-        GridView gridView = (GridView) view.findViewById(R.id.Emoji_GridView);
+        // a snapshot, so the recents can't change under the grid between two notifications; the
+        // listener is added first so that no change is missed after it
+        recents.addOnRecentsChangedListener(this);
+        mAdapter = new EmojiconAdapter(recents.toArray(new Emojicon[0]), mUseSystemDefault);
+        mAdapter.setOnEmojiconClickedListener(mOnItemClickedListener);
+        EmojiconGridView gridView = (EmojiconGridView) view.findViewById(R.id.Emoji_GridView);
+        if (getRecycledViewPool() != null) {
+            gridView.setRecycledViewPool(getRecycledViewPool());
+        }
         gridView.setAdapter(mAdapter);
-        gridView.setOnItemClickListener(this);
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
+        EmojiconRecentsManager.getInstance(getActivity()).removeOnRecentsChangedListener(this);
         mAdapter = null;
     }
 
+    @Override
+    public void onRecentsChanged(EmojiconRecentsManager recents) {
+        // changed from another thread or process, or by addRecentEmoji
+        if (mAdapter != null) {
+            mAdapter.setData(Arrays.asList(recents.toArray(new Emojicon[0])));
+        }
+    }
+
     @Override
     public void addRecentEmoji(Context context, Emojicon emojicon) {
         EmojiconRecentsManager recents = EmojiconRecentsManager
                 .getInstance(context);
+        // the grid is updated by onRecentsChanged
         recents.push(emojicon);
-
-        // notify dataset changed
-        if (mAdapter != null)
-            mAdapter.notifyDataSetChanged();
     }
 
 }
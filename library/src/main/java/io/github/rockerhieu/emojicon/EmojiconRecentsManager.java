@@ -18,30 +18,147 @@ package io.github.rockerhieu.emojicon;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.os.FileObserver;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.v4.util.AtomicFile;
 
 import io.github.rockerhieu.emojicon.emoji.Emojicon;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.StringTokenizer;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
+ * Recently used emojicons, most recent first. Backed by a linked hash map, so that {@link #push(Emojicon)}
+ * is O(1) at any capacity. With {@link #setFrecencyEnabled(boolean)}, the emojicons are instead ranked
+ * by how often and how recently they were used.
+ * <p>
+ * Changes are saved to an {@link AtomicFile} on a background thread, at most once per
+ * {@link #SAVE_DELAY_MILLIS}; call {@link #flush()} to save them right away, e.g. from {@code onStop()}.
+ * <p>
+ * The recents can be changed from any thread, reads go through an immutable snapshot and don't lock.
+ * Processes sharing the file, e.g. a keyboard and an app, merge each other's changes: saves are
+ * serialized by a file lock and the file is watched for the saves of other processes. Register an
+ * {@link OnRecentsChangedListener} to be notified of all changes, on the main thread.
+ *
  * @author Daniele Ricci
  */
-public class EmojiconRecentsManager extends ArrayList<Emojicon> {
+public class EmojiconRecentsManager extends AbstractList<Emojicon> {
     private static final String DELIMITER = ",";
     private static final String PREFERENCE_NAME = "emojicon";
     private static final String PREF_RECENTS = "recent_emojis";
     private static final String PREF_PAGE = "recent_page";
+    private static final String RECENTS_FILE = "emojicon_recents";
+    private static final String LOCK_FILE = "emojicon_recents.lock";
+    private static final int MAGIC = 0x454d5231; // "EMR1"
+    private static final int FLAG_TIMESTAMPS = 1;
+    private static final int FLAG_COUNTS = 2;
+    private static final int FLAG_GENERATION = 4;
+    private static final int HEADER_SIZE = 13;
+
+    /**
+     * How long changes are coalesced before being saved.
+     */
+    private static final long SAVE_DELAY_MILLIS = 1000;
+
+    private static final Executor sWriter = Executors.newSingleThreadExecutor();
+
+    /**
+     * The weight of a use halves every week.
+     */
+    private static final double FRECENCY_HALF_LIFE_MILLIS = 7 * 24 * 60 * 60 * 1000.0;
 
     private static final Object LOCK = new Object();
-    private static EmojiconRecentsManager sInstance;
-    private static int maximumSize = 40;
+    private static volatile EmojiconRecentsManager sInstance;
+    private static volatile int maximumSize = 40;
+    private static volatile boolean sFrecencyEnabled = false;
 
     private Context mContext;
+    private final AtomicFile mFile;
+    private final File mLockFile;
+    private final FileObserver mFileObserver;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mSaveRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+    private final Runnable mNotifyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (mLock) {
+                mNotifyPending = false;
+            }
+            for (OnRecentsChangedListener listener : mListeners) {
+                listener.onRecentsChanged(EmojiconRecentsManager.this);
+            }
+        }
+    };
+    private final List<OnRecentsChangedListener> mListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Guards the entries and the state below.
+     */
+    private final Object mLock = new Object();
+    private boolean mSavePending;
+    private boolean mNotifyPending;
+    private int mRecentPage;
+
+    /**
+     * Generation of the file this instance last loaded or saved, to detect the saves of other processes.
+     */
+    private int mGeneration;
+
+    /**
+     * Entries by emoji, least recently used first.
+     */
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>();
+
+    /**
+     * The entries in list order, rebuilt on the first read after a change.
+     */
+    private volatile Entry[] mSnapshot;
 
     private EmojiconRecentsManager(Context context) {
         mContext = context.getApplicationContext();
+        File dir = mContext.getFilesDir();
+        mFile = new AtomicFile(new File(dir, RECENTS_FILE));
+        mLockFile = new File(dir, LOCK_FILE);
         loadRecents();
+
+        mFileObserver = new FileObserver(dir.getPath(), FileObserver.CLOSE_WRITE | FileObserver.MOVED_TO) {
+            @Override
+            public void onEvent(int event, String path) {
+                if (RECENTS_FILE.equals(path)) {
+                    sWriter.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            sync(false);
+                        }
+                    });
+                }
+            }
+        };
+        mFileObserver.startWatching();
     }
 
     public static EmojiconRecentsManager getInstance(Context context) {
@@ -55,87 +172,636 @@ public class EmojiconRecentsManager extends ArrayList<Emojicon> {
         return sInstance;
     }
 
+    /**
+     * Notified on the main thread when the recents change, in this process or in another one.
+     */
+    public interface OnRecentsChangedListener {
+        void onRecentsChanged(EmojiconRecentsManager recents);
+    }
+
+    public void addOnRecentsChangedListener(OnRecentsChangedListener listener) {
+        mListeners.add(listener);
+    }
+
+    public void removeOnRecentsChangedListener(OnRecentsChangedListener listener) {
+        mListeners.remove(listener);
+    }
+
     public int getRecentPage() {
-        return getPreferences().getInt(PREF_PAGE, 0);
+        synchronized (mLock) {
+            return mRecentPage;
+        }
     }
 
     public void setRecentPage(int page) {
-        getPreferences().edit().putInt(PREF_PAGE, page).commit();
+        synchronized (mLock) {
+            if (mRecentPage != page) {
+                mRecentPage = page;
+                saveRecents();
+            }
+        }
     }
 
+    /**
+     * Save the pending changes now, instead of after the coalescing delay. The file is still written
+     * on the background thread, after the saves already queued.
+     */
+    public void flush() {
+        synchronized (mLock) {
+            if (!mSavePending) {
+                return;
+            }
+            mHandler.removeCallbacks(mSaveRunnable);
+            mSavePending = false;
+        }
+        sWriter.execute(new Runnable() {
+            @Override
+            public void run() {
+                sync(true);
+            }
+        });
+    }
+
+    /**
+     * Mark the given emojicon as the most recently used one.
+     */
     public void push(Emojicon object) {
-        // FIXME totally inefficient way of adding the emoji to the adapter
-        // TODO this should be probably replaced by a deque
-        if (contains(object)) {
-            super.remove(object);
+        synchronized (mLock) {
+            touch(object, System.currentTimeMillis());
+            trim();
+            changed();
         }
-        add(0, object);
     }
 
     @Override
-    public boolean add(Emojicon object) {
-        boolean ret = super.add(object);
+    public Emojicon get(int index) {
+        return getSnapshot()[index].emojicon;
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().length;
+    }
+
+    @Override
+    public Iterator<Emojicon> iterator() {
+        final Entry[] snapshot = getSnapshot();
+        return new Iterator<Emojicon>() {
+            private int mIndex;
+
+            @Override
+            public boolean hasNext() {
+                return mIndex < snapshot.length;
+            }
+
+            @Override
+            public Emojicon next() {
+                if (mIndex >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+                return snapshot[mIndex++].emojicon;
+            }
+
+            @Override
+            public void remove() {
+                EmojiconRecentsManager.this.remove(snapshot[mIndex - 1].emojicon);
+            }
+        };
+    }
 
-        while (this.size() > EmojiconRecentsManager.maximumSize) {
-            super.remove(0);
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Emojicon)) {
+            return false;
+        }
+        synchronized (mLock) {
+            return mEntries.containsKey(((Emojicon) object).getEmoji());
         }
+    }
 
-        saveRecents();
-        return ret;
+    @Override
+    public boolean add(Emojicon object) {
+        synchronized (mLock) {
+            add(mEntries.size(), object);
+        }
+        return true;
     }
 
+    /**
+     * Insert the emojicon at the given position of the recency order, which is the list order unless
+     * frecency is enabled. Index 0 is a use of the emojicon, as {@link #push(Emojicon)}.
+     */
     @Override
     public void add(int index, Emojicon object) {
-        super.add(index, object);
-
         if (index == 0) {
-            while (this.size() > EmojiconRecentsManager.maximumSize) {
-                super.remove(EmojiconRecentsManager.maximumSize);
+            push(object);
+            return;
+        }
+
+        synchronized (mLock) {
+            // not a use of the emojicon: rebuild the map with the emojicon at the given position
+            Entry entry = mEntries.remove(object.getEmoji());
+            if (entry == null) {
+                entry = new Entry(object);
             }
-        } else {
-            while (this.size() > EmojiconRecentsManager.maximumSize) {
-                super.remove(0);
+            // least recently used first
+            List<Entry> entries = new ArrayList<>(mEntries.values());
+            entries.add(Math.max(0, entries.size() - index), entry);
+            setEntries(entries);
+            trim();
+            changed();
+        }
+    }
+
+    /**
+     * Replace the emojicon at the given position, the new one takes its place and its uses. If the new
+     * emojicon was elsewhere in the list, the two swap places and uses, so the size doesn't change.
+     */
+    @Override
+    public Emojicon set(int index, Emojicon object) {
+        synchronized (mLock) {
+            Entry previous = getSnapshot()[index];
+            Entry duplicate = mEntries.get(object.getEmoji());
+            Entry entry = new Entry(object);
+            entry.count = previous.count;
+            entry.lastUsed = previous.lastUsed;
+            Entry moved = null;
+            if (duplicate != null && duplicate != previous) {
+                moved = new Entry(previous.emojicon);
+                moved.count = duplicate.count;
+                moved.lastUsed = duplicate.lastUsed;
+            }
+            List<Entry> entries = new ArrayList<>(mEntries.size());
+            for (Entry existing : mEntries.values()) {
+                if (existing == previous) {
+                    entries.add(entry);
+                } else if (existing == duplicate) {
+                    entries.add(moved);
+                } else {
+                    entries.add(existing);
+                }
             }
+            setEntries(entries);
+            changed();
+            return previous.emojicon;
         }
+    }
 
-        saveRecents();
+    @Override
+    public Emojicon remove(int index) {
+        synchronized (mLock) {
+            Emojicon object = get(index);
+            remove(object);
+            return object;
+        }
     }
 
     @Override
     public boolean remove(Object object) {
-        boolean ret = super.remove(object);
+        synchronized (mLock) {
+            boolean ret = object instanceof Emojicon && mEntries.remove(((Emojicon) object).getEmoji()) != null;
+            if (ret) {
+                changed();
+            }
+            return ret;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (mLock) {
+            mEntries.clear();
+            changed();
+        }
+    }
+
+    private void restore(Emojicon object, int count, long lastUsed) {
+        Entry entry = new Entry(object);
+        entry.count = count;
+        entry.lastUsed = lastUsed;
+        mEntries.remove(object.getEmoji());
+        mEntries.put(object.getEmoji(), entry);
+        invalidate();
+    }
+
+    private void touch(Emojicon object, long time) {
+        Entry entry = mEntries.remove(object.getEmoji());
+        if (entry == null) {
+            entry = new Entry(object);
+        }
+        entry.count++;
+        entry.lastUsed = time;
+        mEntries.put(object.getEmoji(), entry);
+        invalidate();
+    }
+
+    /**
+     * Replace the entries with the given ones, least recently used first.
+     */
+    private void setEntries(List<Entry> entries) {
+        mEntries.clear();
+        for (Entry entry : entries) {
+            mEntries.put(entry.emojicon.getEmoji(), entry);
+        }
+        invalidate();
+    }
+
+    /**
+     * Drop the least recently used entries over the maximum size.
+     */
+    private void trim() {
+        Iterator<Entry> iterator = mEntries.values().iterator();
+        while (mEntries.size() > EmojiconRecentsManager.maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        mSnapshot = null;
+        modCount++;
+    }
+
+    /**
+     * Called with the lock held after a change: save it and notify the listeners.
+     */
+    private void changed() {
+        invalidate();
         saveRecents();
-        return ret;
+        notifyChanged();
+    }
+
+    private void notifyChanged() {
+        synchronized (mLock) {
+            if (!mNotifyPending) {
+                mNotifyPending = true;
+                mHandler.post(mNotifyRunnable);
+            }
+        }
+    }
+
+    private Entry[] getSnapshot() {
+        Entry[] snapshot = mSnapshot;
+        if (snapshot == null) {
+            synchronized (mLock) {
+                snapshot = mSnapshot;
+                if (snapshot == null) {
+                    snapshot = buildSnapshot();
+                    mSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private Entry[] buildSnapshot() {
+        Entry[] snapshot = new Entry[mEntries.size()];
+        int i = snapshot.length;
+        for (Entry entry : mEntries.values()) {
+            snapshot[--i] = entry;
+        }
+        if (sFrecencyEnabled) {
+            final long now = System.currentTimeMillis();
+            for (Entry entry : snapshot) {
+                entry.score = entry.count * Math.pow(0.5, (now - entry.lastUsed) / FRECENCY_HALF_LIFE_MILLIS);
+            }
+            // stable, so equal scores stay most recent first
+            Arrays.sort(snapshot, new Comparator<Entry>() {
+                @Override
+                public int compare(Entry lhs, Entry rhs) {
+                    return Double.compare(rhs.score, lhs.score);
+                }
+            });
+        }
+        return snapshot;
     }
 
     private SharedPreferences getPreferences() {
         return mContext.getSharedPreferences(PREFERENCE_NAME, Context.MODE_PRIVATE);
     }
 
+    /**
+     * Load the binary file, see {@link #serialize()}, or migrate the recent_emojis and recent_page
+     * preferences when there is none. Holds the file lock, so that a save of another process can't
+     * be read half way.
+     */
     private void loadRecents() {
+        FileLock lock = null;
+        Content content;
+        try {
+            lock = lockFile();
+        } catch (IOException e) {
+            // read it anyway, as before the lock file
+        }
+        try {
+            content = read();
+        } finally {
+            unlock(lock);
+        }
+        synchronized (mLock) {
+            if (content == null) {
+                migrateRecents();
+            } else {
+                mRecentPage = content.page;
+                mGeneration = content.generation;
+                for (Entry entry : content.entries) {
+                    mEntries.put(entry.emojicon.getEmoji(), entry);
+                }
+                trim();
+                invalidate();
+            }
+        }
+    }
+
+    private void migrateRecents() {
         SharedPreferences prefs = getPreferences();
+        mRecentPage = prefs.getInt(PREF_PAGE, 0);
         String str = prefs.getString(PREF_RECENTS, "");
         StringTokenizer tokenizer = new StringTokenizer(str, EmojiconRecentsManager.DELIMITER);
+        List<String> tokens = new ArrayList<>();
         while (tokenizer.hasMoreTokens()) {
-            add(Emojicon.fromChars(tokenizer.nextToken()));
+            tokens.add(tokenizer.nextToken());
+        }
+        // saved most recent first
+        for (int i = tokens.size() - 1; i >= 0; i--) {
+            restore(Emojicon.fromChars(tokens.get(i)), 1, 0);
+        }
+        trim();
+        if (prefs.contains(PREF_RECENTS)) {
+            saveRecents();
         }
     }
 
+    /**
+     * Merge the file into this instance if another process saved it since, then save this instance if
+     * {@code save}. Runs on the writer thread, holding the file lock.
+     */
+    private void sync(boolean save) {
+        FileLock lock = null;
+        try {
+            lock = lockFile();
+
+            Content content = read();
+            boolean merged = false;
+            byte[] data = null;
+            synchronized (mLock) {
+                if (content != null && content.generation != mGeneration) {
+                    merge(content);
+                    merged = true;
+                }
+                if (save) {
+                    mGeneration = Math.max(mGeneration, content != null ? content.generation : 0) + 1;
+                    data = serialize();
+                }
+            }
+            if (data != null) {
+                write(data);
+            }
+            if (merged) {
+                notifyChanged();
+            }
+        } catch (IOException e) {
+            // swallow, the next save will try again
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /**
+     * Lock the lock file, which serializes the reads and saves of all the processes sharing the
+     * recents. Blocks while another process holds it.
+     */
+    private FileLock lockFile() throws IOException {
+        RandomAccessFile file = new RandomAccessFile(mLockFile, "rw");
+        try {
+            return file.getChannel().lock();
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Release the given lock, if any, and close its file.
+     */
+    private static void unlock(FileLock lock) {
+        if (lock == null) {
+            return;
+        }
+        try {
+            lock.release();
+            lock.channel().close();
+        } catch (IOException e) {
+            // swallow
+        }
+    }
+
+    /**
+     * Merge the entries saved by another process: the union of both, by last use. Called with the
+     * lock held.
+     */
+    private void merge(Content content) {
+        LinkedHashMap<String, Entry> merged = new LinkedHashMap<>(mEntries);
+        for (Entry entry : content.entries) {
+            String key = entry.emojicon.getEmoji();
+            Entry existing = merged.get(key);
+            if (existing == null) {
+                merged.put(key, entry);
+            } else {
+                existing.count = Math.max(existing.count, entry.count);
+                existing.lastUsed = Math.max(existing.lastUsed, entry.lastUsed);
+            }
+        }
+        List<Entry> entries = new ArrayList<>(merged.values());
+        // stable, so entries used at the same time keep their order
+        Collections.sort(entries, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry lhs, Entry rhs) {
+                return lhs.lastUsed < rhs.lastUsed ? -1 : (lhs.lastUsed == rhs.lastUsed ? 0 : 1);
+            }
+        });
+        setEntries(entries);
+        trim();
+        if (!mSavePending) {
+            mRecentPage = content.page;
+        }
+        mGeneration = content.generation;
+    }
+
+    /**
+     * Schedule a save, changes made until then are saved along. Called with the lock held.
+     */
     private void saveRecents() {
-        StringBuilder str = new StringBuilder();
-        int c = size();
-        for (int i = 0; i < c; i++) {
-            Emojicon e = get(i);
-            str.append(e.getEmoji());
-            if (i < (c - 1)) {
-                str.append(EmojiconRecentsManager.DELIMITER);
+        if (!mSavePending) {
+            mSavePending = true;
+            mHandler.postDelayed(mSaveRunnable, SAVE_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * @return the content of the file, or null if it doesn't exist or isn't valid, e.g. truncated
+     */
+    private Content read() {
+        byte[] data;
+        try {
+            data = mFile.readFully();
+        } catch (IOException e) {
+            return null;
+        }
+        if (data == null || data.length < HEADER_SIZE || readInt(data, 0, 4) != MAGIC) {
+            return null;
+        }
+
+        Content content = new Content();
+        int flags = data[4];
+        content.page = readInt(data, 5, 4);
+        int count = readInt(data, 9, 4);
+        int position = HEADER_SIZE;
+        if (count < 0) {
+            return null;
+        }
+        if ((flags & FLAG_GENERATION) != 0) {
+            if (!fits(data, position, 4)) {
+                return null;
+            }
+            content.generation = readInt(data, position, 4);
+            position += 4;
+        }
+        int trailerSize = ((flags & FLAG_TIMESTAMPS) != 0 ? 8 : 0) + ((flags & FLAG_COUNTS) != 0 ? 4 : 0);
+        int[] codePoints = new int[8];
+        for (int i = 0; i < count; i++) {
+            if (!fits(data, position, 1)) {
+                return null;
+            }
+            int length = data[position++] & 0xff;
+            if (length == 0 || !fits(data, position, length * 3 + trailerSize)) {
+                return null;
+            }
+            if (length > codePoints.length) {
+                codePoints = new int[length];
+            }
+            for (int j = 0; j < length; j++) {
+                codePoints[j] = readInt(data, position, 3);
+                if (codePoints[j] > Character.MAX_CODE_POINT) {
+                    return null;
+                }
+                position += 3;
+            }
+            Entry entry = new Entry(Emojicon.fromChars(new String(codePoints, 0, length)));
+            entry.count = 1;
+            if ((flags & FLAG_TIMESTAMPS) != 0) {
+                entry.lastUsed = ((long) readInt(data, position, 4) << 32) | (readInt(data, position + 4, 4) & 0xffffffffL);
+                position += 8;
+            }
+            if ((flags & FLAG_COUNTS) != 0) {
+                entry.count = readInt(data, position, 4);
+                position += 4;
+            }
+            content.entries.add(entry);
+        }
+        return content;
+    }
+
+    /**
+     * @return whether the given number of bytes can be read from the data at the given position
+     */
+    private static boolean fits(byte[] data, int position, int bytes) {
+        return bytes <= data.length - position;
+    }
+
+    private static int readInt(byte[] data, int position, int bytes) {
+        int value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << 8) | (data[position + i] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * A header of {magic (4 bytes), flags (1 byte), recent page (4 bytes), count (4 bytes)}, then the
+     * generation (4 bytes) with {@link #FLAG_GENERATION}, then one {length (1 byte), codepoints (3 bytes
+     * each), last use (8 bytes), use count (4 bytes)} record per emojicon, least recently used first
+     * and big endian. The last use and use count are only there with {@link #FLAG_TIMESTAMPS} and
+     * {@link #FLAG_COUNTS}, respectively. Called with the lock held.
+     */
+    private byte[] serialize() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + 4 + mEntries.size() * 20);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(FLAG_TIMESTAMPS | FLAG_COUNTS | FLAG_GENERATION);
+            out.writeInt(mRecentPage);
+            out.writeInt(mEntries.size());
+            out.writeInt(mGeneration);
+            for (Entry entry : mEntries.values()) {
+                String emoji = entry.emojicon.getEmoji();
+                out.writeByte(emoji.codePointCount(0, emoji.length()));
+                for (int i = 0; i < emoji.length(); i += Character.charCount(emoji.codePointAt(i))) {
+                    int codePoint = emoji.codePointAt(i);
+                    out.writeByte(codePoint >> 16);
+                    out.writeShort(codePoint & 0xffff);
+                }
+                out.writeLong(entry.lastUsed);
+                out.writeInt(entry.count);
+            }
+        } catch (IOException e) {
+            // can't happen with a ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void write(byte[] data) {
+        FileOutputStream out = null;
+        try {
+            out = mFile.startWrite();
+            out.write(data);
+            mFile.finishWrite(out);
+        } catch (IOException e) {
+            if (out != null) {
+                mFile.failWrite(out);
             }
         }
-        SharedPreferences prefs = getPreferences();
-        prefs.edit().putString(PREF_RECENTS, str.toString()).commit();
     }
 
     public static void setMaximumSize(int maximumSize) {
         EmojiconRecentsManager.maximumSize = maximumSize;
     }
+
+    /**
+     * Set whether to rank the recent emojicons by frecency: the number of uses, each weighted by its
+     * age, instead of by last use. The least recently used emojicons are still the ones dropped over
+     * the maximum size.
+     */
+    public static void setFrecencyEnabled(boolean enabled) {
+        sFrecencyEnabled = enabled;
+        EmojiconRecentsManager instance = sInstance;
+        if (instance != null) {
+            synchronized (instance.mLock) {
+                instance.invalidate();
+            }
+            instance.notifyChanged();
+        }
+    }
+
+    private static final class Entry {
+        final Emojicon emojicon;
+        int count;
+        long lastUsed;
+        double score;
+
+        Entry(Emojicon emojicon) {
+            this.emojicon = emojicon;
+        }
+    }
+
+    /**
+     * Content of the recents file.
+     */
+    private static final class Content {
+        int page;
+        int generation;
+        final List<Entry> entries = new ArrayList<>();
+    }
 }
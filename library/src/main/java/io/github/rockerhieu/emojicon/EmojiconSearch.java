@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.rockerhieu.emojicon.core.EmojiconIndex;
+import io.github.rockerhieu.emojicon.emoji.Emojicon;
+
+/**
+ * Finds the emojicons of the picker by name, see {@link EmojiconIndex}: "heart" finds the hearts and
+ * "smi ey" the smiling faces with smiling eyes. The recent emojicons rank first among the matches of the
+ * same quality. Searching doesn't allocate, the results go to an array given by the caller.
+ */
+public final class EmojiconSearch implements EmojiconRecentsManager.OnRecentsChangedListener {
+    private static final int[] TYPES = {Emojicon.TYPE_PEOPLE, Emojicon.TYPE_NATURE, Emojicon.TYPE_OBJECTS,
+            Emojicon.TYPE_PLACES, Emojicon.TYPE_SYMBOLS};
+
+    private static final Object LOCK = new Object();
+    private static volatile EmojiconSearch sInstance;
+
+    private final EmojiconIndex mIndex;
+    private final Emojicon[] mEmojicons;
+    private EmojiconIndex.Query mQuery;
+
+    private EmojiconSearch(EmojiconIndex.Builder builder) {
+        List<Emojicon> emojicons = new ArrayList<>();
+        for (int type : TYPES) {
+            for (Emojicon emojicon : Emojicon.getEmojicons(type)) {
+                if (emojicon.getEmoji() != null && builder.add(emojicon.getEmoji())) {
+                    emojicons.add(emojicon);
+                }
+            }
+        }
+        mIndex = builder.build();
+        mEmojicons = emojicons.toArray(new Emojicon[emojicons.size()]);
+    }
+
+    /**
+     * @return the search over the emojicons of the picker, loaded on first use
+     */
+    public static EmojiconSearch getInstance(Context context) {
+        EmojiconSearch search = sInstance;
+        if (search == null) {
+            synchronized (LOCK) {
+                search = sInstance;
+                if (search == null) {
+                    search = load(context.getApplicationContext());
+                    sInstance = search;
+                }
+            }
+        }
+        return search;
+    }
+
+    private static EmojiconSearch load(Context context) {
+        EmojiconSearch search = new EmojiconSearch(EmojiconIndex.newBuilder());
+        EmojiconRecentsManager recents = EmojiconRecentsManager.getInstance(context);
+        recents.addOnRecentsChangedListener(search);
+        search.onRecentsChanged(recents);
+        return search;
+    }
+
+    @Override
+    public void onRecentsChanged(EmojiconRecentsManager recents) {
+        synchronized (mIndex) {
+            mIndex.clearBoosts();
+            int rank = 0;
+            for (Emojicon emojicon : recents) {
+                int index = emojicon.getEmoji() == null ? -1 : mIndex.indexOf(emojicon.getEmoji());
+                if (index >= 0) {
+                    mIndex.setBoost(index, EmojiconIndex.MAX_BOOST - rank);
+                }
+                rank++;
+            }
+        }
+    }
+
+    /**
+     * Find the best emojicons for the given query, e.g. what the user is typing in a search field.
+     *
+     * @param query
+     * @param results receives the matches, best first. Its length is the number of results wanted.
+     * @return the number of results
+     */
+    public int search(CharSequence query, Emojicon[] results) {
+        synchronized (mIndex) {
+            if (mQuery == null || mQuery.getMaxCount() < results.length) {
+                mQuery = new EmojiconIndex.Query(results.length);
+            }
+            int count = Math.min(mIndex.search(query, mQuery), results.length);
+            for (int i = 0; i < count; i++) {
+                results[i] = mEmojicons[mQuery.get(i)];
+            }
+            return count;
+        }
+    }
+
+    /**
+     * @return the short name of the given emojicon, e.g. "smiling_face_with_open_mouth", or null if it
+     * isn't in the picker
+     */
+    public String getName(Emojicon emojicon) {
+        int index = emojicon.getEmoji() == null ? -1 : mIndex.indexOf(emojicon.getEmoji());
+        return index < 0 ? null : mIndex.getName(index);
+    }
+}
@@ -17,34 +17,42 @@
 package io.github.rockerhieu.emojicon;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.text.style.DynamicDrawableSpan;
 
-import java.lang.ref.WeakReference;
-
 /**
  * @author Hieu Rocker (rockerhieu@gmail.com)
  */
 class EmojiconSpan extends DynamicDrawableSpan {
-    private final Context mContext;
+    final Context mContext;
 
     private final int mResourceId;
 
-    private final int mSize;
+    final int mSize;
 
     private final int mTextSize;
 
-    private int mHeight;
+    int mHeight;
+
+    int mWidth;
 
-    private int mWidth;
+    int mTop;
 
-    private int mTop;
+    private Bitmap mBitmap;
+
+    private boolean mBitmapLoaded;
 
     private Drawable mDrawable;
 
-    private WeakReference<Drawable> mDrawableRef;
+    private int mLineTop = Integer.MIN_VALUE;
+
+    private int mLineBottom = Integer.MIN_VALUE;
+
+    private int mTranslationY;
 
     public EmojiconSpan(Context context, int resourceId, int size, int alignment, int textSize) {
         super(alignment);
@@ -52,43 +60,88 @@ class EmojiconSpan extends DynamicDrawableSpan {
         mResourceId = resourceId;
         mWidth = mHeight = mSize = size;
         mTextSize = textSize;
+        mTop = (mTextSize - mHeight) / 2;
     }
 
-    public Drawable getDrawable() {
-        if (mDrawable == null) {
+    /**
+     * @return whether this span shows the given emojicon with the given metrics
+     */
+    boolean isSame(int resourceId, int size, int alignment, int textSize) {
+        return mResourceId == resourceId && mSize == size && mVerticalAlignment == alignment && mTextSize == textSize;
+    }
+
+    /**
+     * @return the bitmap shared through {@link EmojiconCache}, or null if it can't be decoded. Only the
+     * first call hits the cache, so that drawing never allocates.
+     */
+    private Bitmap getBitmap() {
+        if (!mBitmapLoaded) {
+            mBitmapLoaded = true;
             try {
-                mDrawable = mContext.getResources().getDrawable(mResourceId);
-                mHeight = mSize;
-                mWidth = mHeight * mDrawable.getIntrinsicWidth() / mDrawable.getIntrinsicHeight();
-                mTop = (mTextSize - mHeight) / 2;
-                mDrawable.setBounds(0, mTop, mWidth, mTop + mHeight);
+                mBitmap = EmojiconCache.getBitmap(mContext, mResourceId, mSize);
+                if (mBitmap != null) {
+                    mWidth = mBitmap.getWidth();
+                }
             } catch (Exception e) {
                 // swallow
             }
         }
+        return mBitmap;
+    }
+
+    /**
+     * Load the bitmap ahead of the first draw, e.g. on a background thread.
+     */
+    void prepare() {
+        getBitmap();
+    }
+
+    public Drawable getDrawable() {
+        if (mDrawable == null) {
+            Bitmap bitmap = getBitmap();
+            if (bitmap != null) {
+                mDrawable = new BitmapDrawable(mContext.getResources(), bitmap);
+                mDrawable.setBounds(0, mTop, mWidth, mTop + mHeight);
+            }
+        }
         return mDrawable;
     }
 
     @Override
-    public void draw(Canvas canvas, CharSequence text, int start, int end, float x, int top, int y, int bottom, Paint paint) {
-        //super.draw(canvas, text, start, end, x, top, y, bottom, paint);
-        Drawable b = getCachedDrawable();
-        canvas.save();
-
-        int transY = bottom - b.getBounds().bottom;
-        if (mVerticalAlignment == ALIGN_BASELINE) {
-            transY = top + ((bottom - top) / 2) - ((b.getBounds().bottom - b.getBounds().top) / 2) - mTop;
+    public int getSize(Paint paint, CharSequence text, int start, int end, Paint.FontMetricsInt fm) {
+        getBitmap();
+        if (fm != null) {
+            fm.ascent = -(mTop + mHeight);
+            fm.descent = 0;
+            fm.top = fm.ascent;
+            fm.bottom = 0;
         }
+        return mWidth;
+    }
 
-        canvas.translate(x, transY);
-        b.draw(canvas);
-        canvas.restore();
+    /**
+     * @return the top of the emojicon for the given line bounds. It is cached for the last line the span
+     * was drawn on, which is the same line on every frame unless the text is laid out again.
+     */
+    int getTranslationY(int top, int bottom) {
+        if (top != mLineTop || bottom != mLineBottom) {
+            mLineTop = top;
+            mLineBottom = bottom;
+            if (mVerticalAlignment == ALIGN_BASELINE) {
+                mTranslationY = top + ((bottom - top) / 2) - (mHeight / 2);
+            } else {
+                mTranslationY = bottom - mHeight;
+            }
+        }
+        return mTranslationY;
     }
 
-    private Drawable getCachedDrawable() {
-        if (mDrawableRef == null || mDrawableRef.get() == null) {
-            mDrawableRef = new WeakReference<Drawable>(getDrawable());
+    @Override
+    public void draw(Canvas canvas, CharSequence text, int start, int end, float x, int top, int y, int bottom, Paint paint) {
+        Bitmap bitmap = getBitmap();
+        if (bitmap == null) {
+            return;
         }
-        return mDrawableRef.get();
+        canvas.drawBitmap(bitmap, x, getTranslationY(top, bottom), null);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rockerhieu.emojicon;
+
+import android.content.Context;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.SpannedString;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Immutable text whose emojis are already converted to emojicons, and their bitmaps loaded, so that
+ * {@link EmojiconTextView#setPrecomputedText(EmojiconText)} only has to attach it. Typically
+ * precomputed on a background thread before binding chat messages to views:
+ * <pre>
+ * Future&lt;EmojiconText&gt; text = EmojiconText.precompute(context, message, textView.getEmojiconParams(), executor);
+ * </pre>
+ */
+public final class EmojiconText implements Spanned {
+    private final SpannedString mText;
+    private final Params mParams;
+
+    private EmojiconText(SpannedString text, Params params) {
+        mText = text;
+        mParams = params;
+    }
+
+    /**
+     * Convert the emojis of the given text on the calling thread. The spans are copied once to an
+     * immutable SpannedString here, which TextView then keeps as is instead of copying them again.
+     */
+    public static EmojiconText create(Context context, CharSequence text, Params params) {
+        SpannableStringBuilder builder = new SpannableStringBuilder(text);
+        EmojiconHandler.addEmojis(context, builder, params.mEmojiconSize, params.mEmojiconAlignment, params.mEmojiconTextSize,
+                params.mTextStart, params.mTextLength, params.mUseSystemDefault);
+        for (EmojiconSpan span : builder.getSpans(0, builder.length(), EmojiconSpan.class)) {
+            span.prepare();
+        }
+        return new EmojiconText(new SpannedString(builder), params);
+    }
+
+    /**
+     * Convert the emojis of the given text on the given executor.
+     */
+    public static Future<EmojiconText> precompute(Context context, final CharSequence text, final Params params, Executor executor) {
+        final Context appContext = context.getApplicationContext();
+        FutureTask<EmojiconText> task = new FutureTask<>(new Callable<EmojiconText>() {
+            @Override
+            public EmojiconText call() {
+                return create(appContext, text, params);
+            }
+        });
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * @return the converted text, for {@link EmojiconTextView#setPrecomputedText(EmojiconText)}
+     */
+    SpannedString getSpannedString() {
+        return mText;
+    }
+
+    /**
+     * @return the parameters this text was converted with
+     */
+    public Params getParams() {
+        return mParams;
+    }
+
+    @Override
+    public <T> T[] getSpans(int start, int end, Class<T> type) {
+        return mText.getSpans(start, end, type);
+    }
+
+    @Override
+    public int getSpanStart(Object tag) {
+        return mText.getSpanStart(tag);
+    }
+
+    @Override
+    public int getSpanEnd(Object tag) {
+        return mText.getSpanEnd(tag);
+    }
+
+    @Override
+    public int getSpanFlags(Object tag) {
+        return mText.getSpanFlags(tag);
+    }
+
+    @Override
+    public int nextSpanTransition(int start, int limit, Class type) {
+        return mText.nextSpanTransition(start, limit, type);
+    }
+
+    @Override
+    public int length() {
+        return mText.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return mText.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return mText.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return mText.toString();
+    }
+
+    /**
+     * How the emojis of an {@link EmojiconText} are converted, see
+     * {@link EmojiconTextView#getEmojiconParams()}.
+     */
+    public static final class Params {
+        private final int mEmojiconSize;
+        private final int mEmojiconAlignment;
+        private final int mEmojiconTextSize;
+        private final int mTextStart;
+        private final int mTextLength;
+        private final boolean mUseSystemDefault;
+
+        public Params(int emojiconSize, int emojiconAlignment, int emojiconTextSize) {
+            this(emojiconSize, emojiconAlignment, emojiconTextSize, 0, -1, false);
+        }
+
+        public Params(int emojiconSize, int emojiconAlignment, int emojiconTextSize, int textStart, int textLength, boolean useSystemDefault) {
+            mEmojiconSize = emojiconSize;
+            mEmojiconAlignment = emojiconAlignment;
+            mEmojiconTextSize = emojiconTextSize;
+            mTextStart = textStart;
+            mTextLength = textLength;
+            mUseSystemDefault = useSystemDefault;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Params)) {
+                return false;
+            }
+            Params params = (Params) o;
+            return mEmojiconSize == params.mEmojiconSize
+                    && mEmojiconAlignment == params.mEmojiconAlignment
+                    && mEmojiconTextSize == params.mEmojiconTextSize
+                    && mTextStart == params.mTextStart
+                    && mTextLength == params.mTextLength
+                    && mUseSystemDefault == params.mUseSystemDefault;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = mEmojiconSize;
+            result = 31 * result + mEmojiconAlignment;
+            result = 31 * result + mEmojiconTextSize;
+            result = 31 * result + mTextStart;
+            result = 31 * result + mTextLength;
+            result = 31 * result + (mUseSystemDefault ? 1 : 0);
+            return result;
+        }
+    }
+}
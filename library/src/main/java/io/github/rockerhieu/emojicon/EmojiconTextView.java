@@ -18,22 +18,49 @@ package io.github.rockerhieu.emojicon;
 
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Rect;
 import android.support.v7.widget.AppCompatTextView;
+import android.text.Layout;
+import android.text.Spannable;
 import android.text.SpannableStringBuilder;
 import android.text.TextUtils;
 import android.text.style.DynamicDrawableSpan;
 import android.util.AttributeSet;
+import android.view.Choreographer;
+import android.view.ViewTreeObserver;
 
 /**
  * @author Hieu Rocker (rockerhieu@gmail.com).
  */
 public class EmojiconTextView extends AppCompatTextView {
+    /**
+     * Texts up to this many chars are converted at once, even in progressive mode.
+     */
+    private static final int PROGRESSIVE_CHUNK_LENGTH = 1024;
+    private static final long PROGRESSIVE_FRAME_BUDGET_NANOS = 4000000L;
+
     private int mEmojiconSize;
     private int mEmojiconAlignment;
     private int mEmojiconTextSize;
     private int mTextStart = 0;
     private int mTextLength = -1;
     private boolean mUseSystemDefault = false;
+    private boolean mProgressive = false;
+    private ProgressiveTask mProgressiveTask;
+    private boolean mViewportOnly = false;
+    private int mViewportStart;
+    private int mViewportEnd;
+    private final Rect mVisibleRect = new Rect();
+    private final SpanBatch mSpanBatch = new SpanBatch();
+    private final ViewTreeObserver.OnPreDrawListener mViewportListener = new ViewTreeObserver.OnPreDrawListener() {
+        @Override
+        public boolean onPreDraw() {
+            if (mViewportOnly) {
+                updateViewport();
+            }
+            return true;
+        }
+    };
 
     public EmojiconTextView(Context context) {
         super(context);
@@ -61,6 +88,8 @@ public class EmojiconTextView extends AppCompatTextView {
             mTextStart = a.getInteger(R.styleable.Emojicon_emojiconTextStart, 0);
             mTextLength = a.getInteger(R.styleable.Emojicon_emojiconTextLength, -1);
             mUseSystemDefault = a.getBoolean(R.styleable.Emojicon_emojiconUseSystemDefault, false);
+            mProgressive = a.getBoolean(R.styleable.Emojicon_emojiconProgressive, false);
+            mViewportOnly = a.getBoolean(R.styleable.Emojicon_emojiconViewportOnly, false);
             a.recycle();
         }
         setText(getText());
@@ -68,6 +97,28 @@ public class EmojiconTextView extends AppCompatTextView {
 
     @Override
     public void setText(CharSequence text, BufferType type) {
+        // called by the TextView constructor, before this view is initialized
+        if (mProgressiveTask != null) {
+            mProgressiveTask.cancel();
+        }
+        if (mViewportOnly && !mUseSystemDefault && !TextUtils.isEmpty(text)) {
+            // converted before the next draw, see updateViewport()
+            super.setText(text, BufferType.SPANNABLE);
+            mViewportStart = mViewportEnd = 0;
+            return;
+        }
+        if (mProgressive && !mUseSystemDefault && !TextUtils.isEmpty(text)) {
+            int start = Math.min(mTextStart, text.length());
+            int end = mTextLength < 0 ? text.length() : Math.min(text.length(), start + mTextLength);
+            if (end - start > PROGRESSIVE_CHUNK_LENGTH) {
+                super.setText(text, BufferType.SPANNABLE);
+                if (mProgressiveTask == null) {
+                    mProgressiveTask = new ProgressiveTask();
+                }
+                mProgressiveTask.start(start, end);
+                return;
+            }
+        }
         if (!TextUtils.isEmpty(text)) {
             SpannableStringBuilder builder = new SpannableStringBuilder(text);
             EmojiconHandler.addEmojis(getContext(), builder, mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, mTextStart, mTextLength, mUseSystemDefault);
@@ -76,6 +127,26 @@ public class EmojiconTextView extends AppCompatTextView {
         super.setText(text, type);
     }
 
+    /**
+     * Attach a text precomputed with {@link #getEmojiconParams()}, without converting its emojis again.
+     * A text precomputed with other parameters is converted again, as by {@link #setText(CharSequence)}.
+     */
+    public void setPrecomputedText(EmojiconText text) {
+        if (text.getParams().equals(getEmojiconParams())) {
+            // a SpannedString is kept as is with BufferType.NORMAL, any other Spanned would be copied
+            super.setText(text.getSpannedString(), BufferType.NORMAL);
+        } else {
+            setText(text);
+        }
+    }
+
+    /**
+     * @return the parameters to precompute the text of this view with, see {@link EmojiconText}
+     */
+    public EmojiconText.Params getEmojiconParams() {
+        return new EmojiconText.Params(mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, mTextStart, mTextLength, mUseSystemDefault);
+    }
+
     /**
      * Set the size of emojicon in pixels.
      */
@@ -90,4 +161,169 @@ public class EmojiconTextView extends AppCompatTextView {
     public void setUseSystemDefault(boolean useSystemDefault) {
         mUseSystemDefault = useSystemDefault;
     }
+
+    /**
+     * Set whether to convert long texts progressively: the visible lines first, then the rest of the
+     * text in chunks, within a time budget per frame. Applies from the next call to setText.
+     */
+    public void setProgressive(boolean progressive) {
+        mProgressive = progressive;
+    }
+
+    /**
+     * Set whether to only convert the emojis of the visible lines, plus a screen above and below, e.g.
+     * for a long text in a ScrollView. The window follows the scrolling and the emojicons out of it
+     * are removed, so their number doesn't grow with the length of the text. Applies from the next
+     * call to setText, and takes precedence over {@link #setProgressive(boolean)}.
+     */
+    public void setViewportOnly(boolean viewportOnly) {
+        mViewportOnly = viewportOnly;
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getViewTreeObserver().addOnPreDrawListener(mViewportListener);
+        if (mProgressiveTask != null) {
+            mProgressiveTask.resume();
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        getViewTreeObserver().removeOnPreDrawListener(mViewportListener);
+        if (mProgressiveTask != null) {
+            mProgressiveTask.pause();
+        }
+        super.onDetachedFromWindow();
+    }
+
+    /**
+     * Convert the emojis around the visible lines, once they get out of the converted window.
+     */
+    private void updateViewport() {
+        Layout layout = getLayout();
+        if (layout == null || mUseSystemDefault || !(getText() instanceof Spannable) || !getLocalVisibleRect(mVisibleRect)) {
+            return;
+        }
+        int firstLine = layout.getLineForVertical(Math.max(0, mVisibleRect.top - getTotalPaddingTop()));
+        int lastLine = layout.getLineForVertical(Math.max(0, mVisibleRect.bottom - getTotalPaddingTop()));
+        int visibleStart = layout.getLineStart(firstLine);
+        int visibleEnd = layout.getLineEnd(lastLine);
+        if (visibleStart >= mViewportStart && visibleEnd <= mViewportEnd) {
+            return;
+        }
+
+        Spannable text = (Spannable) getText();
+        int textStart = Math.min(mTextStart, text.length());
+        int textEnd = mTextLength < 0 ? text.length() : Math.min(text.length(), textStart + mTextLength);
+        int margin = lastLine - firstLine + 1;
+        int start = Math.max(textStart, layout.getLineStart(Math.max(0, firstLine - margin)));
+        int end = Math.min(textEnd, layout.getLineEnd(Math.min(layout.getLineCount() - 1, lastLine + margin)));
+
+        mSpanBatch.begin(text);
+        for (EmojiconSpan span : text.getSpans(0, text.length(), EmojiconSpan.class)) {
+            int spanStart = text.getSpanStart(span);
+            int spanEnd = text.getSpanEnd(span);
+            if (spanEnd <= start || spanStart >= end) {
+                text.removeSpan(span);
+                mSpanBatch.changed(spanStart, spanEnd);
+            }
+        }
+        if (start < end) {
+            long range = EmojiconHandler.updateEmojis(getContext(), text, mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, start, end - start, start, end);
+            mSpanBatch.changed((int) (range >>> 32), (int) range);
+        }
+        mSpanBatch.end();
+        mViewportStart = Math.min(start, visibleStart);
+        mViewportEnd = Math.max(end, visibleEnd);
+    }
+
+    /**
+     * Converts the emojis of the text progressively, one frame at a time.
+     */
+    private final class ProgressiveTask implements Choreographer.FrameCallback {
+        private int mStart;
+        private int mEnd;
+        private int mNext;
+        private boolean mVisibleLinesDone;
+        private boolean mPosted;
+
+        void start(int start, int end) {
+            mStart = start;
+            mNext = start;
+            mEnd = end;
+            mVisibleLinesDone = false;
+            resume();
+        }
+
+        void cancel() {
+            pause();
+            mNext = mEnd;
+        }
+
+        void resume() {
+            if (!mPosted && mNext < mEnd) {
+                Choreographer.getInstance().postFrameCallback(this);
+                mPosted = true;
+            }
+        }
+
+        void pause() {
+            if (mPosted) {
+                Choreographer.getInstance().removeFrameCallback(this);
+                mPosted = false;
+            }
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mPosted = false;
+            if (mUseSystemDefault || !(getText() instanceof Spannable)) {
+                return;
+            }
+            Spannable text = (Spannable) getText();
+            mEnd = Math.min(mEnd, text.length());
+            long deadline = System.nanoTime() + PROGRESSIVE_FRAME_BUDGET_NANOS;
+
+            mSpanBatch.begin(text);
+            if (!mVisibleLinesDone) {
+                mVisibleLinesDone = convertVisibleLines(text);
+            }
+            while (mNext < mEnd && System.nanoTime() < deadline) {
+                int length = Math.min(PROGRESSIVE_CHUNK_LENGTH, mEnd - mNext);
+                convert(text, mNext, length);
+                mNext += length;
+            }
+            mSpanBatch.end();
+            resume();
+        }
+
+        /**
+         * @return false if the text isn't laid out yet
+         */
+        private boolean convertVisibleLines(Spannable text) {
+            Layout layout = getLayout();
+            if (layout == null) {
+                return false;
+            }
+            if (getLocalVisibleRect(mVisibleRect)) {
+                int firstLine = layout.getLineForVertical(Math.max(0, mVisibleRect.top - getTotalPaddingTop()));
+                int lastLine = layout.getLineForVertical(Math.max(0, mVisibleRect.bottom - getTotalPaddingTop()));
+                int start = Math.max(mNext, layout.getLineStart(firstLine));
+                int end = Math.min(mEnd, layout.getLineEnd(lastLine));
+                if (start < end) {
+                    convert(text, start, end - start);
+                }
+            }
+            return true;
+        }
+
+        private void convert(Spannable text, int start, int length) {
+            // only replaces the spans around the range, unlike addEmojis, and leaves the text out of
+            // [mStart, mEnd) as it is
+            long range = EmojiconHandler.updateEmojis(getContext(), text, mEmojiconSize, mEmojiconAlignment, mEmojiconTextSize, start, length, mStart, mEnd);
+            mSpanBatch.changed((int) (range >>> 32), (int) range);
+        }
+    }
 }
@@ -16,22 +16,28 @@
 
 package io.github.rockerhieu.emojicon;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.SystemClock;
 import android.support.v4.app.Fragment;
 import android.support.v4.app.FragmentManager;
 import android.support.v4.app.FragmentStatePagerAdapter;
+import android.support.v4.app.FragmentTransaction;
 import android.support.v4.view.PagerAdapter;
 import android.support.v4.view.ViewPager;
+import android.support.v7.widget.RecyclerView;
 import android.view.KeyEvent;
 import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.EditText;
+import android.widget.RelativeLayout;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -46,35 +52,111 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
     private View[] mEmojiTabs;
     private ViewPager mViewPager;
     private PagerAdapter mEmojisAdapter;
+    private List<EmojiconGridFragment> mGridFragments;
     private EmojiconRecentsManager mRecentsManager;
+    private RecyclerView.RecycledViewPool mRecycledViewPool;
+    private EmojiconPanelView mPanel;
+    private EmojiconPrefetcher mPrefetcher;
+    private List<EmojiconPage> mPanelPages;
     private boolean mUseSystemDefault = false;
+    private boolean mPanelMode = false;
+    private boolean mKeepWarm = false;
+
+    /**
+     * The view kept between openings with {@link #newInstance(boolean, boolean, boolean)}.
+     */
+    private View mWarmView;
+    private final ComponentCallbacks2 mTrimCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+            trimMemory(level);
+        }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {
+        }
+
+        @Override
+        public void onLowMemory() {
+            trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        }
+    };
 
     private static final String USE_SYSTEM_DEFAULT_KEY = "useSystemDefaults";
+    private static final String PANEL_MODE_KEY = "panelMode";
+    private static final String KEEP_WARM_KEY = "keepWarm";
+
+    /**
+     * Types of the pages, the recents first.
+     */
+    private static final int[] PAGE_TYPES = {Emojicon.TYPE_UNDEFINED, Emojicon.TYPE_PEOPLE, Emojicon.TYPE_NATURE,
+            Emojicon.TYPE_OBJECTS, Emojicon.TYPE_PLACES, Emojicon.TYPE_SYMBOLS};
 
     public static EmojiconsFragment newInstance(boolean useSystemDefault) {
+        return newInstance(useSystemDefault, false);
+    }
+
+    /**
+     * @param panelMode whether to show all the categories in a single scrolling {@link EmojiconPanelView},
+     *                  the tabs jumping to their category, instead of one fragment per category
+     */
+    public static EmojiconsFragment newInstance(boolean useSystemDefault, boolean panelMode) {
+        return newInstance(useSystemDefault, panelMode, false);
+    }
+
+    /**
+     * @param keepWarm whether to keep the inflated view, its pages and their cells between openings, for
+     *                 hosts that detach and attach this fragment again to toggle it. The view is released
+     *                 by {@link #trimMemory(int)} when it isn't shown.
+     */
+    public static EmojiconsFragment newInstance(boolean useSystemDefault, boolean panelMode, boolean keepWarm) {
         EmojiconsFragment fragment = new EmojiconsFragment();
         Bundle bundle = new Bundle();
         bundle.putBoolean(USE_SYSTEM_DEFAULT_KEY, useSystemDefault);
+        bundle.putBoolean(PANEL_MODE_KEY, panelMode);
+        bundle.putBoolean(KEEP_WARM_KEY, keepWarm);
         fragment.setArguments(bundle);
         return fragment;
     }
 
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
+        if (mWarmView != null) {
+            ViewGroup parent = (ViewGroup) mWarmView.getParent();
+            if (parent != null) {
+                parent.removeView(mWarmView);
+            }
+            if (mPanel != null) {
+                updatePanelRecents();
+            }
+            return mWarmView;
+        }
+
         View view = inflater.inflate(R.layout.emojicons, container, false);
         mViewPager = (ViewPager) view.findViewById(R.id.emojis_pager);
         mViewPager.setOnPageChangeListener(this);
+        mRecentsManager = EmojiconRecentsManager.getInstance(view.getContext());
 
-        EmojiconRecents recents = this;
-        mEmojisAdapter = new EmojiconGridFragmentPagerAdapter(getFragmentManager(), Arrays.asList(
-                EmojiconRecentsGridFragment.newInstance(mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Emojicon.TYPE_PEOPLE, recents, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Emojicon.TYPE_NATURE, recents, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Emojicon.TYPE_OBJECTS, recents, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Emojicon.TYPE_PLACES, recents, mUseSystemDefault),
-                EmojiconGridFragment.newInstance(Emojicon.TYPE_SYMBOLS, recents, mUseSystemDefault)
-        ));
-        mViewPager.setAdapter(mEmojisAdapter);
+        if (mPanelMode) {
+            createPanel();
+        } else {
+            EmojiconRecents recents = this;
+            List<EmojiconGridFragment> fragments = Arrays.asList(
+                    EmojiconRecentsGridFragment.newInstance(mUseSystemDefault),
+                    EmojiconGridFragment.newInstance(Emojicon.TYPE_PEOPLE, recents, mUseSystemDefault),
+                    EmojiconGridFragment.newInstance(Emojicon.TYPE_NATURE, recents, mUseSystemDefault),
+                    EmojiconGridFragment.newInstance(Emojicon.TYPE_OBJECTS, recents, mUseSystemDefault),
+                    EmojiconGridFragment.newInstance(Emojicon.TYPE_PLACES, recents, mUseSystemDefault),
+                    EmojiconGridFragment.newInstance(Emojicon.TYPE_SYMBOLS, recents, mUseSystemDefault)
+            );
+            mGridFragments = fragments;
+            mRecycledViewPool = EmojiconAdapter.newRecycledViewPool();
+            for (EmojiconGridFragment fragment : fragments) {
+                fragment.setRecycledViewPool(mRecycledViewPool);
+            }
+            mEmojisAdapter = new EmojiconGridFragmentPagerAdapter(getFragmentManager(), fragments);
+            mViewPager.setAdapter(mEmojisAdapter);
+        }
 
         mEmojiTabs = new View[6];
         mEmojiTabs[0] = view.findViewById(R.id.emojis_tab_0_recents);
@@ -88,7 +170,7 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
             mEmojiTabs[i].setOnClickListener(new View.OnClickListener() {
                 @Override
                 public void onClick(View v) {
-                    mViewPager.setCurrentItem(position);
+                    selectPage(position, true);
                 }
             });
         }
@@ -102,7 +184,6 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
         }));
 
         // get last selected page
-        mRecentsManager = EmojiconRecentsManager.getInstance(view.getContext());
         int page = mRecentsManager.getRecentPage();
         // last page was recents, check if there are recents to use
         // if none was found, go to page 1
@@ -113,11 +194,121 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
         if (page == 0) {
             onPageSelected(page);
         } else {
-            mViewPager.setCurrentItem(page, false);
+            selectPage(page, false);
+        }
+        if (mKeepWarm) {
+            mWarmView = view;
         }
         return view;
     }
 
+    /**
+     * Show all the categories in a single {@link EmojiconPanelView}, in place of the ViewPager.
+     */
+    private void createPanel() {
+        mViewPager.setVisibility(View.GONE);
+        mPanel = new EmojiconPanelView(mViewPager.getContext());
+        mPanel.setId(R.id.emojis_panel);
+        // the recents as of opening: updating them while the panel scrolls would move all the categories
+        mPanelPages = new ArrayList<>(Arrays.asList(
+                new EmojiconPage(Emojicon.TYPE_UNDEFINED, mRecentsManager.toArray(new Emojicon[0]), mUseSystemDefault, R.drawable.ic_emoji_recent_light),
+                new EmojiconPage(Emojicon.TYPE_PEOPLE, null, mUseSystemDefault, R.drawable.ic_emoji_people_light),
+                new EmojiconPage(Emojicon.TYPE_NATURE, null, mUseSystemDefault, R.drawable.ic_emoji_nature_light),
+                new EmojiconPage(Emojicon.TYPE_OBJECTS, null, mUseSystemDefault, R.drawable.ic_emoji_objects_light),
+                new EmojiconPage(Emojicon.TYPE_PLACES, null, mUseSystemDefault, R.drawable.ic_emoji_places_light),
+                new EmojiconPage(Emojicon.TYPE_SYMBOLS, null, mUseSystemDefault, R.drawable.ic_emoji_symbols_light)
+        ));
+        mPanel.setPages(mPanelPages);
+        mPanel.setOnEmojiconClickedListener(new EmojiconGridFragment.OnEmojiconClickedListener() {
+            @Override
+            public void onEmojiconClicked(Emojicon emojicon) {
+                if (getActivity() instanceof EmojiconGridFragment.OnEmojiconClickedListener) {
+                    ((EmojiconGridFragment.OnEmojiconClickedListener) getActivity()).onEmojiconClicked(emojicon);
+                } else if (getParentFragment() instanceof EmojiconGridFragment.OnEmojiconClickedListener) {
+                    ((EmojiconGridFragment.OnEmojiconClickedListener) getParentFragment()).onEmojiconClicked(emojicon);
+                }
+                mRecentsManager.push(emojicon);
+            }
+        });
+        mPanel.setOnPageChangedListener(new EmojiconPanelView.OnPageChangedListener() {
+            @Override
+            public void onPageChanged(int page) {
+                onPageSelected(page);
+            }
+        });
+
+        RelativeLayout.LayoutParams params = new RelativeLayout.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+        params.addRule(RelativeLayout.BELOW, R.id.emojis_tab);
+        ViewGroup parent = (ViewGroup) mViewPager.getParent();
+        // in place of the ViewPager, under the divider
+        parent.addView(mPanel, parent.indexOfChild(mViewPager), params);
+    }
+
+    /**
+     * Show the recents used since the kept panel was last opened.
+     */
+    private void updatePanelRecents() {
+        Emojicon[] recents = mRecentsManager.toArray(new Emojicon[0]);
+        EmojiconPage page = mPanelPages.get(0);
+        if (!Arrays.equals(recents, page.getData())) {
+            mPanelPages.set(0, new EmojiconPage(page.getType(), recents, page.isUseSystemDefaults(), page.getIcon()));
+            mPanel.setPages(mPanelPages);
+            mPanel.scrollToPage(mEmojiTabLastSelectedIndex);
+        }
+    }
+
+    /**
+     * Release the view kept between openings if it isn't shown and, when memory runs low, the cached
+     * emojicon bitmaps. Called from {@code onTrimMemory()} while this fragment is attached.
+     *
+     * @param level a {@link ComponentCallbacks2} trim level
+     */
+    public void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW && mWarmView != null && mWarmView.getParent() == null) {
+            releaseWarmView();
+        }
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            EmojiconCache.evictAll();
+        }
+    }
+
+    /**
+     * Drop the kept view along with every field holding a part of it, so that nothing keeps the
+     * hierarchy alive and the next onCreateView inflates it again.
+     */
+    private void releaseWarmView() {
+        if (mGridFragments != null && isAdded()) {
+            // the pager added them to the fragment manager of the host, where they would keep their views
+            FragmentTransaction transaction = getFragmentManager().beginTransaction();
+            for (EmojiconGridFragment fragment : mGridFragments) {
+                if (fragment.isAdded()) {
+                    transaction.remove(fragment);
+                }
+            }
+            transaction.commitNowAllowingStateLoss();
+        }
+        mGridFragments = null;
+        mWarmView = null;
+        mViewPager = null;
+        mPanel = null;
+        mPanelPages = null;
+        mEmojiTabs = null;
+        mEmojisAdapter = null;
+        mRecycledViewPool = null;
+        // so that onCreateView selects the tab of the new view
+        mEmojiTabLastSelectedIndex = -1;
+    }
+
+    private void selectPage(int page, boolean smoothScroll) {
+        if (mPanel != null) {
+            mPanel.scrollToPage(page);
+            onPageSelected(page);
+        } else {
+            mViewPager.setCurrentItem(page, smoothScroll);
+        }
+    }
+
     @Override
     public void onAttach(Context context) {
         super.onAttach(context);
@@ -128,11 +319,24 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
         } else {
             throw new IllegalArgumentException(context + " must implement interface " + OnEmojiconBackspaceClickedListener.class.getSimpleName());
         }
+        context.getApplicationContext().registerComponentCallbacks(mTrimCallbacks);
+    }
+
+    @Override
+    public void onStop() {
+        super.onStop();
+        if (mPrefetcher != null) {
+            mPrefetcher.cancel();
+        }
+        if (mRecentsManager != null) {
+            mRecentsManager.flush();
+        }
     }
 
     @Override
     public void onDetach() {
         mOnEmojiconBackspaceClickedListener = null;
+        getActivity().getApplicationContext().unregisterComponentCallbacks(mTrimCallbacks);
         super.onDetach();
     }
 
@@ -152,6 +356,11 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
 
     @Override
     public void addRecentEmoji(Context context, Emojicon emojicon) {
+        if (mPanel != null || mEmojisAdapter == null) {
+            // no recents grid, or not anymore after trimMemory
+            mRecentsManager.push(emojicon);
+            return;
+        }
         EmojiconRecentsGridFragment fragment = (EmojiconRecentsGridFragment) mEmojisAdapter.instantiateItem(mViewPager, 0);
         fragment.addRecentEmoji(context, emojicon);
     }
@@ -163,6 +372,17 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
 
     @Override
     public void onPageScrolled(int i, float v, int i2) {
+        int page = EmojiconPrefetcher.getTargetPage(mViewPager, i, v);
+        if (page < 0 || mEmojisAdapter == null || page >= mEmojisAdapter.getCount()) {
+            return;
+        }
+        if (mPrefetcher == null) {
+            mPrefetcher = new EmojiconPrefetcher(getActivity());
+        }
+        if (page != mPrefetcher.getPage()) {
+            mPrefetcher.prefetch(mViewPager, page, page == 0
+                    ? mRecentsManager.toArray(new Emojicon[0]) : Emojicon.getEmojicons(PAGE_TYPES[page]));
+        }
     }
 
     @Override
@@ -290,8 +510,12 @@ public class EmojiconsFragment extends Fragment implements ViewPager.OnPageChang
         super.onCreate(savedInstanceState);
         if (getArguments() != null) {
             mUseSystemDefault = getArguments().getBoolean(USE_SYSTEM_DEFAULT_KEY);
+            mPanelMode = getArguments().getBoolean(PANEL_MODE_KEY);
+            mKeepWarm = getArguments().getBoolean(KEEP_WARM_KEY);
         } else {
             mUseSystemDefault = false;
+            mPanelMode = false;
+            mKeepWarm = false;
         }
     }
 }
@@ -17,12 +17,14 @@
 package io.github.rockerhieu.emojicon;
 
 import android.content.Context;
+import android.content.res.TypedArray;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Parcelable;
 import android.support.annotation.NonNull;
 import android.support.v4.view.PagerAdapter;
 import android.support.v4.view.ViewPager;
+import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
 import android.util.SparseArray;
 import android.view.LayoutInflater;
@@ -32,10 +34,12 @@ import android.widget.FrameLayout;
 import android.widget.ImageButton;
 import android.widget.ImageView;
 import android.widget.LinearLayout;
+import android.widget.RelativeLayout;
 
 import java.util.Arrays;
 import java.util.List;
 
+import io.github.rockerhieu.emojicon.emoji.Emojicon;
 import io.github.rockerhieu.emojicon.util.Utils;
 
 /**
@@ -47,6 +51,12 @@ public class EmojiconsView extends FrameLayout implements ViewPager.OnPageChange
     private ViewGroup mTabsContainer;
     private View[] mTabs;
     private View mLastTab;
+    private final RecyclerView.RecycledViewPool mRecycledViewPool = EmojiconAdapter.newRecycledViewPool();
+    private boolean mPanelMode;
+    private EmojiconPanelView mPanel;
+    private EmojiconGridViewPagerAdapter mPagerAdapter;
+    private EmojiconGridFragment.OnEmojiconClickedListener mOnEmojiconClickedListener;
+    private EmojiconPrefetcher mPrefetcher;
 
     public EmojiconsView(Context context) {
         this(context, null);
@@ -57,6 +67,28 @@ public class EmojiconsView extends FrameLayout implements ViewPager.OnPageChange
         LayoutInflater.from(context).inflate(R.layout.emojicons_view, this);
         mViewPager = (ViewPager) findViewById(R.id.emojis_pager);
         mTabsContainer = (ViewGroup) findViewById(R.id.emojis_tab);
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.EmojiconsView);
+        mPanelMode = a.getBoolean(R.styleable.EmojiconsView_emojiconPanelMode, false);
+        a.recycle();
+    }
+
+    /**
+     * Set whether to show all the pages in a single scrolling {@link EmojiconPanelView}, the tabs
+     * jumping to their page, instead of one {@link EmojiconGridView} per page of a ViewPager.
+     * Applies from the next call to {@link #setPages(List)}.
+     */
+    public void setPanelMode(boolean panelMode) {
+        mPanelMode = panelMode;
+    }
+
+    public void setOnEmojiconClickedListener(EmojiconGridFragment.OnEmojiconClickedListener listener) {
+        mOnEmojiconClickedListener = listener;
+        if (mPanel != null) {
+            mPanel.setOnEmojiconClickedListener(listener);
+        }
+        if (mPagerAdapter != null) {
+            mPagerAdapter.onEmojiconClickedListener = listener;
+        }
     }
 
     @Override
@@ -69,6 +101,9 @@ public class EmojiconsView extends FrameLayout implements ViewPager.OnPageChange
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         mViewPager.removeOnPageChangeListener(this);
+        if (mPrefetcher != null) {
+            mPrefetcher.cancel();
+        }
     }
 
     public void setPages(@NonNull List<EmojiconPage> pages) {
@@ -89,7 +124,55 @@ public class EmojiconsView extends FrameLayout implements ViewPager.OnPageChange
             addTabDivider();
         }
         onPageSelected(0);
-        mViewPager.setAdapter(new EmojiconGridViewPagerAdapter(getContext(), pages));
+        if (mPanelMode) {
+            mViewPager.setAdapter(null);
+            mViewPager.setVisibility(GONE);
+            mPagerAdapter = null;
+            getPanel().setPages(pages);
+        } else {
+            if (mPanel != null) {
+                mPanel.setVisibility(GONE);
+            }
+            mViewPager.setVisibility(VISIBLE);
+            mPagerAdapter = new EmojiconGridViewPagerAdapter(getContext(), pages, mRecycledViewPool);
+            mPagerAdapter.onEmojiconClickedListener = mOnEmojiconClickedListener;
+            mViewPager.setAdapter(mPagerAdapter);
+        }
+    }
+
+    private EmojiconPanelView getPanel() {
+        if (mPanel == null) {
+            mPanel = new EmojiconPanelView(getContext());
+            if (Build.VERSION.SDK_INT > Build.VERSION_CODES.JELLY_BEAN_MR1) {
+                mPanel.setId(View.generateViewId());
+            } else {
+                mPanel.setId(Utils.generateViewId());
+            }
+            mPanel.setOnEmojiconClickedListener(mOnEmojiconClickedListener);
+            mPanel.setOnPageChangedListener(new EmojiconPanelView.OnPageChangedListener() {
+                @Override
+                public void onPageChanged(int page) {
+                    onPageSelected(page);
+                }
+            });
+            RelativeLayout.LayoutParams params = new RelativeLayout.LayoutParams(
+                    ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+            params.addRule(RelativeLayout.BELOW, R.id.emojis_tab);
+            ViewGroup parent = (ViewGroup) mViewPager.getParent();
+            // in place of the ViewPager, under the divider
+            parent.addView(mPanel, parent.indexOfChild(mViewPager), params);
+        }
+        mPanel.setVisibility(VISIBLE);
+        return mPanel;
+    }
+
+    private void selectPage(int page) {
+        if (mPanelMode && mPanel != null) {
+            mPanel.scrollToPage(page);
+            onPageSelected(page);
+        } else {
+            mViewPager.setCurrentItem(page, true);
+        }
     }
 
     private void addTabDivider() {
@@ -120,13 +203,25 @@ public class EmojiconsView extends FrameLayout implements ViewPager.OnPageChange
         icon.setOnClickListener(new OnClickListener() {
             @Override
             public void onClick(View v) {
-                mViewPager.setCurrentItem(indexToMove, true);
+                selectPage(indexToMove);
             }
         });
     }
 
     @Override
     public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
+        int page = EmojiconPrefetcher.getTargetPage(mViewPager, position, positionOffset);
+        if (page < 0 || mPages == null || page >= mPages.size()) {
+            return;
+        }
+        if (mPrefetcher == null) {
+            mPrefetcher = new EmojiconPrefetcher(getContext());
+        }
+        if (page != mPrefetcher.getPage()) {
+            EmojiconPage emojiconPage = mPages.get(page);
+            mPrefetcher.prefetch(mViewPager, page, emojiconPage.getType() != Emojicon.TYPE_UNDEFINED
+                    ? Emojicon.getEmojicons(emojiconPage.getType()) : emojiconPage.getData());
+        }
     }
 
     @Override
@@ -148,11 +243,15 @@ public class EmojiconsView extends FrameLayout implements ViewPager.OnPageChange
     static class EmojiconGridViewPagerAdapter extends PagerAdapter {
         private Context context;
         private final List<EmojiconPage> pages;
+        private final RecyclerView.RecycledViewPool recycledViewPool;
         private EmojiconGridView.SavedState[] savedStates;
+        EmojiconGridFragment.OnEmojiconClickedListener onEmojiconClickedListener;
 
-        public EmojiconGridViewPagerAdapter(Context context, @NonNull List<EmojiconPage> pages) {
+        public EmojiconGridViewPagerAdapter(Context context, @NonNull List<EmojiconPage> pages,
+                                            RecyclerView.RecycledViewPool recycledViewPool) {
             this.context = context;
             this.pages = pages;
+            this.recycledViewPool = recycledViewPool;
             this.savedStates = new EmojiconGridView.SavedState[pages.size()];
         }
 
@@ -160,6 +259,8 @@ public class EmojiconsView extends FrameLayout implements ViewPager.OnPageChange
         public Object instantiateItem(ViewGroup container, int position) {
             EmojiconPage emojiconPage = pages.get(position);
             EmojiconGridView emojiGridView = new EmojiconGridView(context);
+            emojiGridView.setRecycledViewPool(recycledViewPool);
+            emojiGridView.setOnEmojiconClickedListener(onEmojiconClickedListener);
             if (Build.VERSION.SDK_INT > Build.VERSION_CODES.JELLY_BEAN_MR1) {
                 emojiGridView.setId(View.generateViewId());
             } else {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Hieu Rocker
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.rockerhieu.emojicon;
+
+import android.text.SpanWatcher;
+import android.text.Spannable;
+import android.text.Spanned;
+import android.text.style.UpdateLayout;
+
+/**
+ * Changes the spans of a text with its {@link SpanWatcher}s, i.e. the DynamicLayout and the TextView
+ * showing it, detached, then lets them reflow the changed range once. Attached, they reflow the whole
+ * paragraph of every EmojiconSpan set or removed, which is quadratic for a long paragraph.
+ */
+final class SpanBatch {
+    /**
+     * Set then removed over the changed range when the watchers are attached again: as a layout span
+     * added or removed, it makes the DynamicLayout reflow that range.
+     */
+    private static final UpdateLayout REFLOW = new UpdateLayout() {
+    };
+
+    private Spannable mText;
+    private SpanWatcher[] mWatchers;
+    private int[] mStarts = new int[0];
+    private int[] mEnds = new int[0];
+    private int[] mFlags = new int[0];
+    private int mChangeStart;
+    private int mChangeEnd;
+
+    /**
+     * Detach the watchers of the text, until {@link #end()}.
+     */
+    void begin(Spannable text) {
+        mText = text;
+        mWatchers = text.getSpans(0, text.length(), SpanWatcher.class);
+        int count = mWatchers.length;
+        if (mStarts.length < count) {
+            mStarts = new int[count];
+            mEnds = new int[count];
+            mFlags = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            mStarts[i] = text.getSpanStart(mWatchers[i]);
+            mEnds[i] = text.getSpanEnd(mWatchers[i]);
+            mFlags[i] = text.getSpanFlags(mWatchers[i]);
+        }
+        for (SpanWatcher watcher : mWatchers) {
+            text.removeSpan(watcher);
+        }
+        mChangeStart = Integer.MAX_VALUE;
+        mChangeEnd = -1;
+    }
+
+    /**
+     * Record that the spans within [start, end) may have changed.
+     */
+    void changed(int start, int end) {
+        if (start < end) {
+            mChangeStart = Math.min(mChangeStart, start);
+            mChangeEnd = Math.max(mChangeEnd, end);
+        }
+    }
+
+    /**
+     * Attach the watchers again, and reflow the changed range.
+     */
+    void end() {
+        for (int i = 0; i < mWatchers.length; i++) {
+            mText.setSpan(mWatchers[i], mStarts[i], mEnds[i], mFlags[i]);
+        }
+        if (mChangeStart < mChangeEnd) {
+            mText.setSpan(REFLOW, mChangeStart, mChangeEnd, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            mText.removeSpan(REFLOW);
+        }
+        mText = null;
+        mWatchers = null;
+    }
+}